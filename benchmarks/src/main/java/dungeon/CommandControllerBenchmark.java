@@ -0,0 +1,79 @@
+package dungeon;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import controller.CommandController;
+import randomizer.SeededRandomizer;
+
+/**
+ * Benchmark of a full turn of the text game: the controller describes the player, the location,
+ * the next possible moves and the smell, reads a move, moves the player and describes the state
+ * again before the input runs out. The turn moves the player, so the dungeon is reset before every
+ * turn. A turn takes microseconds, far longer than the reset and the timestamps of a setup at every
+ * invocation, so those barely show in its time. Throughput and latency percentiles
+ * are reported, run with {@code -prof gc} for the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class CommandControllerBenchmark {
+
+  @Param({"10", "50", "200"})
+  public int side;
+
+  @Param({"false", "true"})
+  public boolean wrapping;
+
+  @Param({"0", "5"})
+  public int interconnectivity;
+
+  @Param({"impl", "grid"})
+  public String model;
+
+  private Dungeon dungeon;
+  private String turn;
+
+  @Setup(Level.Trial)
+  public void createDungeon() {
+    int monsters = Math.max(1, side * side / 50);
+    if (model.equals("impl")) {
+      dungeon = new DungeonImpl(side, side, interconnectivity, 20, wrapping, monsters,
+              new SeededRandomizer<>(42));
+    } else {
+      dungeon = new GridDungeon(side, side, interconnectivity, 20, wrapping, monsters,
+              new SeededRandomizer<>(42));
+    }
+    Direction direction = dungeon.getPlayer().getCurrentLocation().getNeighbors().keySet()
+            .iterator().next();
+    turn = "M " + direction.getDirection().substring(0, 1);
+  }
+
+  @Setup(Level.Invocation)
+  public void resetDungeon() {
+    dungeon.reset();
+  }
+
+  @Benchmark
+  public StringBuilder playTurn() {
+    StringBuilder out = new StringBuilder();
+    new CommandController(new StringReader(turn), out).play(dungeon);
+    return out;
+  }
+}
@@ -0,0 +1,87 @@
+package dungeon;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import randomizer.SeededRandomizer;
+
+/**
+ * Benchmark of the phases of the creation of a square dungeon of side N. The phases are measured
+ * cumulatively, since the constructor runs them in one go: the maze alone, the layout (maze and
+ * the search of the start and end caves), the content placed on a ready layout (treasures, arrows,
+ * Otyughs and smell), and the whole {@code DungeonImpl} and {@code GridDungeon} constructors. The
+ * time of a phase is the difference between two of them. Throughput and latency percentiles are
+ * reported, run with {@code -prof gc} for the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class DungeonConstructionBenchmark {
+
+  @Param({"10", "50", "200"})
+  public int side;
+
+  @Param({"false", "true"})
+  public boolean wrapping;
+
+  @Param({"0", "5"})
+  public int interconnectivity;
+
+  private int monsters;
+  private DungeonLayout layout;
+  private long seed;
+
+  @Setup(Level.Trial)
+  public void createLayout() {
+    monsters = Math.max(1, side * side / 50);
+    layout = DungeonLayout.create(side, side, interconnectivity, wrapping, MazeGenerator.KRUSKAL,
+            new SeededRandomizer<>(42));
+  }
+
+  //a new seed every call, so no call reuses the dungeon of the one before
+  private SeededRandomizer<Object> randomizer() {
+    return new SeededRandomizer<>(seed++);
+  }
+
+  @Benchmark
+  public GridTopology maze() {
+    return MazeGenerator.forName(MazeGenerator.KRUSKAL)
+            .generate(side, side, interconnectivity, wrapping, randomizer());
+  }
+
+  @Benchmark
+  public DungeonLayout layout() {
+    return DungeonLayout.create(side, side, interconnectivity, wrapping, MazeGenerator.KRUSKAL,
+            randomizer());
+  }
+
+  @Benchmark
+  public Dungeon contentOnLayout() {
+    return new GridDungeon(layout, 20, monsters, randomizer());
+  }
+
+  @Benchmark
+  public Dungeon gridDungeon() {
+    return new GridDungeon(side, side, interconnectivity, 20, wrapping, monsters, randomizer());
+  }
+
+  @Benchmark
+  public Dungeon dungeonImpl() {
+    return new DungeonImpl(side, side, interconnectivity, 20, wrapping, monsters, randomizer());
+  }
+}
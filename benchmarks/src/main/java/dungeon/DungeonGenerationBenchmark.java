@@ -0,0 +1,41 @@
+package dungeon;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import randomizer.ActualRandomizer;
+
+/**
+ * Benchmark of the creation of a square dungeon of side N. The number of locations grows with the
+ * square of the side, so a generation that is linear in the size of the dungeon shows about four
+ * times the time per operation for every doubling of the side.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class DungeonGenerationBenchmark {
+
+  @Param({"50", "100", "200", "400"})
+  public int side;
+
+  @Param({"false", "true"})
+  public boolean wrapping;
+
+  @Benchmark
+  public Dungeon createDungeon() {
+    return new DungeonImpl(side, side, side, 20, wrapping, 1, new ActualRandomizer());
+  }
+}
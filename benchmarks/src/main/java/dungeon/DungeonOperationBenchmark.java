@@ -0,0 +1,113 @@
+package dungeon;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import controller.GameText;
+import randomizer.SeededRandomizer;
+
+/**
+ * Benchmark of the operations of a game on a square dungeon of side N, for both the
+ * {@code DungeonImpl} and the {@code GridDungeon} models. The search, the smell and the
+ * description only read the dungeon and run on the same dungeon all along. The shot and the move
+ * change the dungeon, so they run on a game that is reset before every call, which makes their
+ * times include the overhead of a setup at every invocation. Throughput and latency percentiles are
+ * reported, run with {@code -prof gc} for the allocation rate.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class DungeonOperationBenchmark {
+
+  /**
+   * A dungeon created once for the whole trial.
+   */
+  @State(Scope.Thread)
+  public static class Game {
+
+    @Param({"10", "50", "200"})
+    public int side;
+
+    @Param({"false", "true"})
+    public boolean wrapping;
+
+    @Param({"0", "5"})
+    public int interconnectivity;
+
+    @Param({"impl", "grid"})
+    public String model;
+
+    Dungeon dungeon;
+    Location start;
+    String door;
+
+    @Setup(Level.Trial)
+    public void createDungeon() {
+      int monsters = Math.max(1, side * side / 50);
+      if (model.equals("impl")) {
+        dungeon = new DungeonImpl(side, side, interconnectivity, 20, wrapping, monsters,
+                new SeededRandomizer<>(42));
+      } else {
+        dungeon = new GridDungeon(side, side, interconnectivity, 20, wrapping, monsters,
+                new SeededRandomizer<>(42));
+      }
+      start = dungeon.getStartCave();
+      //every cave has a door, the shot and the move go through the first one
+      Direction direction = dungeon.getPlayer().getCurrentLocation().getNeighbors().keySet()
+              .iterator().next();
+      door = direction.getDirection().substring(0, 1);
+    }
+  }
+
+  /**
+   * A dungeon that is put back to its initial content before every call.
+   */
+  @State(Scope.Thread)
+  public static class PlayedGame extends Game {
+
+    @Setup(Level.Invocation)
+    public void resetDungeon() {
+      dungeon.reset();
+    }
+  }
+
+  @Benchmark
+  public Map<Location, Integer> bfs(Game game) {
+    return game.dungeon.bfs(game.start);
+  }
+
+  @Benchmark
+  public SmellType checkSmell(Game game) {
+    return game.dungeon.checkSmell();
+  }
+
+  @Benchmark
+  public String shootArrow(PlayedGame game) {
+    return GameText.shootArrow(game.dungeon, 1, game.door);
+  }
+
+  @Benchmark
+  public String nextMove(PlayedGame game) {
+    return GameText.nextMove(game.dungeon, game.door);
+  }
+
+  @Benchmark
+  public String dungeonToString(Game game) {
+    return game.dungeon.toString();
+  }
+}
@@ -0,0 +1,138 @@
+package dungeon;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the spanning tree construction on a square grid of side N, comparing the packed
+ * edges with the primitive disjoint set against the previous edge objects with a map based disjoint
+ * set and a recursive find. Run with {@code -prof gc} to compare the allocations as well. The map
+ * based baseline degrades quickly (seconds per tree at N = 300), larger grids such as N = 2000 can
+ * be run for the array version alone with {@code -p side=2000 disjointSetArrays}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xss8m", "-Xmx4g"})
+public class KruskalAlgoBenchmark {
+
+  @Param({"100", "200", "300"})
+  public int side;
+
+  private EdgeStore gridEdges;
+  private EdgeStore edges;
+  private List<LegacyEdge> gridLegacyEdges;
+  private List<LegacyEdge> legacyEdges;
+
+  @Setup(Level.Trial)
+  public void createGrid() {
+    Random random = new Random(42);
+    gridEdges = new EdgeStore(2 * side * (side - 1));
+    gridLegacyEdges = new ArrayList<>();
+    for (int i = 0; i < side; i++) {
+      for (int j = 0; j < side - 1; j++) {
+        int weight = random.nextInt(9) + 1;
+        gridEdges.add(i * side + j, i * side + j + 1, weight, false);
+        gridLegacyEdges.add(new LegacyEdge(i * side + j, i * side + j + 1, weight));
+      }
+    }
+    for (int i = 0; i < side - 1; i++) {
+      for (int j = 0; j < side; j++) {
+        int weight = random.nextInt(9) + 1;
+        gridEdges.add(i * side + j, (i + 1) * side + j, weight, false);
+        gridLegacyEdges.add(new LegacyEdge(i * side + j, (i + 1) * side + j, weight));
+      }
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void copyEdges() {
+    edges = new EdgeStore(gridEdges.size());
+    for (int i = 0; i < gridEdges.size(); i++) {
+      edges.addPacked(gridEdges.get(i));
+    }
+    legacyEdges = new ArrayList<>(gridLegacyEdges);
+  }
+
+  @Benchmark
+  public BitSet disjointSetArrays() {
+    return new KruskalAlgo().kruskalAlgo(edges, side * side);
+  }
+
+  @Benchmark
+  public List<LegacyEdge> disjointSetHashMap() {
+    return new HashMapKruskal().kruskalAlgo(legacyEdges, side * side);
+  }
+
+  /**
+   * An edge object as it was used before the packed edges, kept for the baseline.
+   */
+  private static class LegacyEdge {
+    private final int src;
+    private final int dest;
+    private final int weight;
+
+    LegacyEdge(int src, int dest, int weight) {
+      this.src = src;
+      this.dest = dest;
+      this.weight = weight;
+    }
+  }
+
+  /**
+   * The Kruskal Algorithm as it was before the primitive disjoint set, kept for the baseline.
+   */
+  private static class HashMapKruskal {
+
+    private Map<Integer, Integer> parent;
+
+    private int find(int k) {
+      if (parent.get(k) == k) {
+        return k;
+      }
+      return find(parent.get(k));
+    }
+
+    List<LegacyEdge> kruskalAlgo(List<LegacyEdge> edges, int n) {
+      parent = new HashMap<>();
+      for (int i = 0; i < n; i++) {
+        parent.put(i, i);
+      }
+      List<LegacyEdge> mst = new ArrayList<>();
+      int index = 0;
+      Collections.sort(edges, Comparator.comparingInt(e -> e.weight));
+      while (mst.size() != n - 1) {
+        LegacyEdge nextEdge = edges.get(index++);
+        int x = find(nextEdge.src);
+        int y = find(nextEdge.dest);
+        if (x != y) {
+          mst.add(nextEdge);
+          parent.put(x, y);
+        }
+      }
+      return mst;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package dungeon;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the spanning tree construction on a square grid of side N, comparing the sequential
+ * Kruskal Algorithm with the Boruvka Algorithm run on a fork/join pool of the given no of threads.
+ * Both give the same tree. The Kruskal time does not depend on the no of threads, so it is
+ * measured once for every side and is the line the Boruvka time has to cross. A pool with more
+ * threads than the machine has cores only shows the cost of the extra threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g"})
+public class SpanningTreeBenchmark {
+
+  /**
+   * The edges of the grid, copied before every call since the algorithms order them in place.
+   */
+  @State(Scope.Benchmark)
+  public static class Grid {
+
+    @Param({"1000", "2000"})
+    public int side;
+
+    private EdgeStore gridEdges;
+    EdgeStore edges;
+
+    @Setup(Level.Trial)
+    public void createGrid() {
+      Random random = new Random(42);
+      gridEdges = new EdgeStore(2 * side * (side - 1));
+      for (int i = 0; i < side; i++) {
+        for (int j = 0; j < side - 1; j++) {
+          gridEdges.add(i * side + j, i * side + j + 1, random.nextInt(9) + 1, false);
+        }
+      }
+      for (int i = 0; i < side - 1; i++) {
+        for (int j = 0; j < side; j++) {
+          gridEdges.add(i * side + j, (i + 1) * side + j, random.nextInt(9) + 1, false);
+        }
+      }
+    }
+
+    @Setup(Level.Invocation)
+    public void copyEdges() {
+      edges = new EdgeStore(gridEdges.size());
+      for (int i = 0; i < gridEdges.size(); i++) {
+        edges.addPacked(gridEdges.get(i));
+      }
+    }
+  }
+
+  /**
+   * The edges of the grid and a pool of the given no of threads.
+   */
+  @State(Scope.Benchmark)
+  public static class PooledGrid extends Grid {
+
+    @Param({"1", "4", "16", "64"})
+    public int threads;
+
+    ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void createPool() {
+      pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void closePool() {
+      pool.shutdown();
+    }
+  }
+
+  @Benchmark
+  public BitSet kruskal(Grid grid) {
+    return new KruskalAlgo().build(grid.edges, grid.side * grid.side);
+  }
+
+  @Benchmark
+  public BitSet boruvka(PooledGrid grid) {
+    return grid.pool.submit(() -> new BoruvkaAlgo().build(grid.edges, grid.side * grid.side))
+            .join();
+  }
+}
@@ -45,7 +45,7 @@ public class CommandController implements IDungeonController {
 
     try {
       ICommandController cmd = null;
-      while (!dungeon.hasReachedEnd() && dungeon.getPlayer().isAlive()) {
+      while (!dungeon.hasReachedEnd() && dungeon.isPlayerAlive()) {
         try {
           out.append("\n" + dungeon.getPlayerDescription());
           out.append(dungeon.getLocationDescription());
@@ -107,7 +107,7 @@ public class CommandController implements IDungeonController {
 
       if (dungeon.hasReachedEnd()) {
         out.append("\nPlayer has reached the destination location "
-                + dungeon.getPlayer().getCurrentLocation().getId() + ". Game Over!!");
+                + dungeon.getPlayerLocationId() + ". Game Over!!");
       }
     } catch (IOException ioe) {
       throw new IllegalStateException("\nAppend failed ", ioe);
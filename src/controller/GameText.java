@@ -0,0 +1,159 @@
+package controller;
+
+import dungeon.Direction;
+import dungeon.Dungeon;
+import dungeon.MoveOutcome;
+import dungeon.ShotOutcome;
+
+/**
+ * This class represents the text of the game shown to the player. The dungeon answers the moves,
+ * shots and pickups with outcomes, and the commands turn them into text here, so the text is only
+ * built when there is a player to read it. The text versions of the moves, shots and pickups the
+ * dungeon used to answer with are kept here for the callers that still play with text.
+ */
+public final class GameText {
+
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private GameText() {
+  }
+
+  /**
+   * This method provides the direction the player entered.
+   *
+   * @param input this parameter takes the letter of the direction, N, S, E or W in any case
+   * @return the direction, or null when the input is not a direction
+   */
+  public static Direction direction(String input) {
+    if (input == null) {
+      return null;
+    }
+    for (Direction direction : DIRECTIONS) {
+      if (input.length() == 1 && input.regionMatches(true, 0, direction.getDirection(), 0, 1)) {
+        return direction;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * This method provides the text of a move.
+   *
+   * @param outcome  this parameter takes the outcome of the move
+   * @param input    this parameter takes the direction the player entered
+   * @param location this parameter takes the location id of the player after the move
+   * @return the text of the move
+   */
+  public static String move(MoveOutcome outcome, String input, int location) {
+    switch (outcome) {
+      case BLOCKED:
+        return "\nMove not possible " + input;
+      case EATEN:
+        return "\nMonster in cave! Chomp, chomp, chomp, player got eaten by an Otyugh!"
+                + "\nBetter luck next time";
+      case ESCAPED:
+        return "Player escaped successfully from an injured Otyugh, and moved to location "
+                + location;
+      default:
+        return "Player moved successfully to location " + location;
+    }
+  }
+
+  /**
+   * This method provides the text of a shot.
+   *
+   * @param outcome this parameter takes the outcome of the shot
+   * @return the text of the shot
+   */
+  public static String shot(ShotOutcome outcome) {
+    switch (outcome) {
+      case NO_ARROWS:
+        return "\nYou are out of arrows, explore to find more";
+      case HIT_WALL:
+        return "\nYou shot an arrow into the darkness";
+      case INJURED:
+        return "\nPlayer shot the monster, monster is injured";
+      case KILLED:
+        return "\nPlayer shot the monster, monster has been killed";
+      default:
+        return "\nPlayer shot an arrow into the darkness";
+    }
+  }
+
+  /**
+   * This method provides the text of a treasure pickup.
+   *
+   * @param picked this parameter takes the no of treasures picked up
+   * @return the text of the pickup
+   */
+  public static String treasure(int picked) {
+    return picked > 0 ? "Treasure picked up" : "No treasure present at the location";
+  }
+
+  /**
+   * This method provides the text of an arrow pickup.
+   *
+   * @param picked this parameter takes the no of arrows picked up
+   * @return the text of the pickup
+   */
+  public static String arrows(int picked) {
+    return picked > 0 ? "Arrow picked up" : "No arrow present at the location";
+  }
+
+  /**
+   * This method moves the player from one location to the other based on the location value that
+   * is passed.
+   *
+   * @param dungeon this parameter takes the dungeon the player is in
+   * @param val     this parameter takes the location value of the direction in which the player
+   *                has to move
+   * @return the text of the move
+   * @throws IllegalArgumentException when the move entered is invalid
+   */
+  public static String nextMove(Dungeon dungeon, String val) throws IllegalArgumentException {
+    Direction direction = direction(val);
+    if (direction == null) {
+      throw new IllegalArgumentException("Invalid move " + val);
+    }
+    return move(dungeon.move(direction), val, dungeon.getPlayerLocationId());
+  }
+
+  /**
+   * This method shoots an arrow in the given direction and the required distance specified by the
+   * player.
+   *
+   * @param dungeon   this parameter takes the dungeon the player is in
+   * @param distance  this parameter takes the distance till which the arrow should travel
+   * @param direction this parameter takes the direction in which the arrow should travel
+   * @return the text of the shot
+   * @throws IllegalArgumentException when the distance is less than 1 or the direction is invalid
+   */
+  public static String shootArrow(Dungeon dungeon, int distance, String direction)
+          throws IllegalArgumentException {
+    Direction shot = direction(direction);
+    if (shot == null) {
+      throw new IllegalArgumentException("Invalid Direction");
+    }
+    return shot(dungeon.shoot(distance, shot));
+  }
+
+  /**
+   * This method picks up the treasure at the current location of the player.
+   *
+   * @param dungeon this parameter takes the dungeon the player is in
+   * @return the text of the pickup
+   */
+  public static String pickTreasure(Dungeon dungeon) {
+    return treasure(dungeon.takeTreasure());
+  }
+
+  /**
+   * This method picks up the arrows at the current location of the player.
+   *
+   * @param dungeon this parameter takes the dungeon the player is in
+   * @return the text of the pickup
+   */
+  public static String pickArrow(Dungeon dungeon) {
+    return arrows(dungeon.takeArrows());
+  }
+}
@@ -1,7 +1,10 @@
 package controller.commands;
 
+import controller.GameText;
 import controller.ICommandController;
+import dungeon.Direction;
 import dungeon.Dungeon;
+import dungeon.MoveOutcome;
 
 /**
  * This class represents the move command in the dungeon game and moves the player based on the
@@ -28,12 +31,11 @@ public class Move implements ICommandController {
     if (dungeon == null) {
       throw new IllegalArgumentException("Dungeon cannot be null");
     }
-    StringBuilder sb = new StringBuilder();
-    try {
-      sb.append(dungeon.nextMove(s));
-    } catch (IllegalArgumentException e) {
-      sb.append(e.getMessage());
+    Direction direction = GameText.direction(s);
+    if (direction == null) {
+      return "Invalid move " + s;
     }
-    return sb.toString();
+    MoveOutcome outcome = dungeon.move(direction);
+    return GameText.move(outcome, s, dungeon.getPlayerLocationId());
   }
 }
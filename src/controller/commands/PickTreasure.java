@@ -1,5 +1,6 @@
 package controller.commands;
 
+import controller.GameText;
 import controller.ICommandController;
 import dungeon.Dungeon;
 
@@ -17,6 +18,6 @@ public class PickTreasure implements ICommandController {
     if (dungeon == null) {
       throw new IllegalArgumentException("Dungeon cannot be null");
     }
-    return dungeon.pickTreasure();
+    return GameText.pickTreasure(dungeon);
   }
 }
@@ -1,6 +1,8 @@
 package controller.commands;
 
+import controller.GameText;
 import controller.ICommandController;
+import dungeon.Direction;
 import dungeon.Dungeon;
 
 /**
@@ -31,12 +33,14 @@ public class Shoot implements ICommandController {
     if (dungeon == null) {
       throw new IllegalArgumentException("Dungeon cannot be null");
     }
-    StringBuilder sb = new StringBuilder();
+    Direction dir = GameText.direction(direction);
+    if (dir == null) {
+      return "Invalid Direction";
+    }
     try {
-      sb.append(dungeon.shootArrow(distance, direction));
+      return GameText.shot(dungeon.shoot(distance, dir));
     } catch (IllegalArgumentException a) {
-      sb.append(a.getMessage());
+      return a.getMessage();
     }
-    return sb.toString();
   }
 }
@@ -0,0 +1,106 @@
+package dungeon;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * This class represents the Boruvka Algorithm, which builds the spanning tree of a large dungeon
+ * on several threads. In every round each group of connected locations picks its lightest edge to
+ * another group in parallel, the picked edges join the tree, and the edges left inside a group
+ * are dropped in parallel, so the no of groups at least halves every round. Edges are compared by
+ * their index in the ordered edges, which makes the lightest edge of a group unique and the tree
+ * the same as the one found by the Kruskal Algorithm.
+ */
+class BoruvkaAlgo implements SpanningTreeBuilder {
+
+  private static final int NONE = Integer.MAX_VALUE;
+
+  @Override
+  public BitSet build(EdgeStore edges, int n) {
+    edges.sortByWeight();
+    BitSet mst = new BitSet(edges.size());
+    DisjointSet ds = new DisjointSet(n);
+    AtomicIntegerArray lightest = new AtomicIntegerArray(n);
+    ParallelRange.forEach(0, n, i -> lightest.setPlain(i, NONE));
+
+    //the live edges in order, with the groups at their two ends, kept next to each other in
+    //memory so a round reads them in sequence
+    int[] id = ParallelRange.select(edges.size(), e -> edges.getSrc(e) != edges.getDest(e));
+    int[] endA = new int[id.length];
+    int[] endB = new int[id.length];
+    ParallelRange.forEach(0, id.length, p -> {
+      endA[p] = edges.getSrc(id[p]);
+      endB[p] = edges.getDest(id[p]);
+    });
+
+    int treeSize = 0;
+    Round round = new Round(id, endA, endB);
+    while (round.id.length > 0 && treeSize < n - 1) {
+      Round current = round;
+      ParallelRange.forEach(0, current.id.length, p -> {
+        pickLighter(lightest, current.endA[p], current.id[p]);
+        pickLighter(lightest, current.endB[p], current.id[p]);
+      });
+      int[] picked = ParallelRange.select(current.id.length,
+            p -> lightest.getPlain(current.endA[p]) == current.id[p]
+                    || lightest.getPlain(current.endB[p]) == current.id[p]);
+
+      for (int p : picked) {
+        if (ds.union(current.endA[p], current.endB[p])) {
+          mst.set(current.id[p]);
+          treeSize++;
+        }
+      }
+
+      round = current.relabel(ds, lightest);
+    }
+    return mst;
+  }
+
+  //the edges still joining different groups, by their index and the groups at their ends
+  private static final class Round {
+    private final int[] id;
+    private final int[] endA;
+    private final int[] endB;
+
+    private Round(int[] id, int[] endA, int[] endB) {
+      this.id = id;
+      this.endA = endA;
+      this.endB = endB;
+    }
+
+    //the edges that still join different groups after the groups were merged, moved to the
+    //start of their part in place and then joined, with the lightest edge of their groups cleared
+    private Round relabel(DisjointSet ds, AtomicIntegerArray lightest) {
+      int parts = (id.length + ParallelRange.GRAIN - 1) / ParallelRange.GRAIN;
+      int[] counts = new int[parts + 1];
+      ParallelRange.forEach(0, parts, part -> {
+        int start = part * ParallelRange.GRAIN;
+        int next = start;
+        for (int p = start; p < Math.min(id.length, start + ParallelRange.GRAIN); p++) {
+          int a = ds.root(endA[p]);
+          int b = ds.root(endB[p]);
+          if (a != b) {
+            id[next] = id[p];
+            endA[next] = a;
+            endB[next] = b;
+            lightest.setPlain(a, NONE);
+            lightest.setPlain(b, NONE);
+            next++;
+          }
+        }
+        counts[part + 1] = next - start;
+      });
+      return new Round(ParallelRange.gather(id, counts), ParallelRange.gather(endA, counts),
+              ParallelRange.gather(endB, counts));
+    }
+  }
+
+  //keeps the lower of the edge index and the one already picked by the group
+  private static void pickLighter(AtomicIntegerArray lightest, int group, int edge) {
+    int old = lightest.getPlain(group);
+    while (edge < old && !lightest.weakCompareAndSetVolatile(group, old, edge)) {
+      old = lightest.get(group);
+    }
+  }
+}
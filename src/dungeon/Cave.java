@@ -19,6 +19,8 @@ public class Cave implements Location {
   private boolean isVisited;
   private int arrow;
   private Creature monster;
+  private CaveLog log;
+  private SmellIndex smell;
 
   /**
    * Constructs a location node with its id.
@@ -98,6 +100,7 @@ public class Cave implements Location {
     if (treasure == null) {
       throw new IllegalArgumentException("Treasure argument is invalid");
     }
+    save();
     this.treasureList.add(treasure);
   }
 
@@ -134,6 +137,7 @@ public class Cave implements Location {
    */
   @Override
   public void updateVisit(boolean visit) {
+    save();
     this.isVisited = visit;
   }
 
@@ -150,6 +154,7 @@ public class Cave implements Location {
    */
   @Override
   public void removeTreasure() {
+    save();
     this.treasureList.clear();
   }
 
@@ -166,6 +171,7 @@ public class Cave implements Location {
    */
   @Override
   public void addArrow(int arrowCount) {
+    save();
     this.arrow = arrowCount;
   }
 
@@ -174,6 +180,7 @@ public class Cave implements Location {
    */
   @Override
   public void removeArrow() {
+    save();
     this.arrow = 0;
   }
 
@@ -182,7 +189,10 @@ public class Cave implements Location {
    */
   @Override
   public void addMonster() {
+    save();
+    boolean smelled = smells();
     this.monster = new Monster();
+    updateSmell(smelled);
   }
 
   /**
@@ -202,7 +212,24 @@ public class Cave implements Location {
    */
   @Override
   public void hitMonster() {
+    save();
+    boolean smelled = smells();
     monster.hit();
+    updateSmell(smelled);
+  }
+
+  //the neighbor in the direction without copying the neighbors, null when there is no door
+  Location neighbor(Direction direction) {
+    return directionCaveMap.get(direction);
+  }
+
+  //the health of the Otyugh without copying it, the cave must have one
+  int monsterHealth() {
+    return monster.getHealth();
+  }
+
+  int treasureCount() {
+    return treasureList.size();
   }
 
   /**
@@ -213,6 +240,47 @@ public class Cave implements Location {
     return this.monster != null;
   }
 
+  //from now on a copy of the content is saved in the log before the first change
+  void watch(CaveLog log) {
+    this.log = log;
+  }
+
+  private void save() {
+    if (log != null) {
+      log.save(this);
+    }
+  }
+
+  //from now on the smell of the dungeon follows every change of the Otyugh in the cave
+  void watch(SmellIndex smell) {
+    this.smell = smell;
+  }
+
+  private boolean smells() {
+    return monster != null && monster.getHealth() > 0;
+  }
+
+  private void updateSmell(boolean smelled) {
+    if (smell != null) {
+      boolean smells = smells();
+      if (smells && !smelled) {
+        smell.addMonster(id);
+      } else if (smelled && !smells) {
+        smell.removeMonster(id);
+      }
+    }
+  }
+
+  //puts back the content of the saved copy without saving it again
+  void restore(Location saved) {
+    boolean smelled = smells();
+    this.treasureList = saved.getTreasureList();
+    this.arrow = saved.getArrow();
+    this.monster = saved.getMonster();
+    this.isVisited = saved.isVisited();
+    updateSmell(smelled);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,65 @@
+package dungeon;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * This class represents the record of the caves changed since a dungeon was created. A cave saves
+ * a copy of its content the first time it changes, so the log holds one copy for every changed
+ * cave and the dungeon is put back by restoring those caves alone.
+ */
+final class CaveLog {
+
+  private final BitSet saved;
+  private final List<Cave> copies;
+
+  /**
+   * Constructs an empty log.
+   */
+  CaveLog() {
+    this.saved = new BitSet();
+    this.copies = new ArrayList<>();
+  }
+
+  /**
+   * This method saves a copy of the cave unless one was saved already.
+   *
+   * @param cave this parameter takes the cave that is about to change
+   */
+  void save(Cave cave) {
+    if (!saved.get(cave.getId())) {
+      saved.set(cave.getId());
+      copies.add(new Cave(cave));
+    }
+  }
+
+  /**
+   * This method provides the no of saved caves.
+   *
+   * @return the no of saved caves
+   */
+  int size() {
+    return copies.size();
+  }
+
+  /**
+   * This method provides the saved copy at the given position, in the order the caves changed.
+   *
+   * @param index this parameter takes the position
+   * @return the copy of the cave as it was before it changed
+   */
+  Cave get(int index) {
+    return copies.get(index);
+  }
+
+  /**
+   * This method forgets every saved cave.
+   */
+  void clear() {
+    for (Cave copy : copies) {
+      saved.clear(copy.getId());
+    }
+    copies.clear();
+  }
+}
@@ -10,6 +10,9 @@ public enum Direction {
   EAST("East"),
   WEST("West");
 
+  //values() copies the array on every call, the loops of the dungeon go over this one instead
+  static final Direction[] VALUES = values();
+
   private final String direction;
 
   Direction(String direction) {
@@ -19,4 +22,23 @@ public enum Direction {
   public String getDirection() {
     return direction;
   }
+
+  /**
+   * This method provides the direction that leads back to where a move in this direction
+   * started.
+   *
+   * @return the opposite direction
+   */
+  public Direction getOpposite() {
+    switch (this) {
+      case NORTH:
+        return SOUTH;
+      case SOUTH:
+        return NORTH;
+      case EAST:
+        return WEST;
+      default:
+        return EAST;
+    }
+  }
 }
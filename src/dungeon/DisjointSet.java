@@ -0,0 +1,85 @@
+package dungeon;
+
+/**
+ * This class represents the disjoint sets of locations used by the Kruskal Algorithm to check if
+ * two locations are already connected. The parent and rank of every location are kept in primitive
+ * arrays indexed by the location id, the find is iterative with path halving and the union is done
+ * by rank, so the parent chains stay short even for very large dungeons.
+ */
+class DisjointSet {
+
+  private final int[] parent;
+  private final byte[] rank;
+
+  /**
+   * Constructs n disjoint sets, one for each location id from 0 to n - 1.
+   *
+   * @param n this parameter takes the number of locations
+   * @throws IllegalArgumentException when the number of locations is negative
+   */
+  public DisjointSet(int n) throws IllegalArgumentException {
+    if (n < 0) {
+      throw new IllegalArgumentException("Number of sets cannot be negative");
+    }
+    parent = new int[n];
+    rank = new byte[n];
+    for (int i = 0; i < n; i++) {
+      parent[i] = i;
+    }
+  }
+
+  /**
+   * This method provides the representative of the set the location belongs to. Every location
+   * visited on the way is pointed to its grandparent.
+   *
+   * @param k this parameter takes the location id
+   * @return the id of the representative location
+   */
+  public int find(int k) {
+    while (parent[k] != k) {
+      parent[k] = parent[parent[k]];
+      k = parent[k];
+    }
+    return k;
+  }
+
+  /**
+   * This method provides the representative of the set the location belongs to without changing
+   * the sets, so it can be called from several threads at the same time as long as no sets are
+   * merged meanwhile.
+   *
+   * @param k this parameter takes the location id
+   * @return the id of the representative location
+   */
+  public int root(int k) {
+    while (parent[k] != k) {
+      k = parent[k];
+    }
+    return k;
+  }
+
+  /**
+   * This method merges the sets of the two locations, the root with the smaller rank is placed
+   * under the other root.
+   *
+   * @param a this parameter takes the first location id
+   * @param b this parameter takes the second location id
+   * @return true if the sets were merged and false if both locations were already in the same set
+   */
+  public boolean union(int a, int b) {
+    int x = find(a);
+    int y = find(b);
+    if (x == y) {
+      return false;
+    }
+    if (rank[x] < rank[y]) {
+      parent[x] = y;
+    } else if (rank[x] > rank[y]) {
+      parent[y] = x;
+    } else {
+      parent[y] = x;
+      rank[x]++;
+    }
+    return true;
+  }
+}
@@ -12,15 +12,13 @@ import java.util.Map;
 public interface Dungeon {
 
   /**
-   * This method moves the player from one location to the other based on the location value that
-   * is passed.
+   * This method moves the player from one location to the other in the given direction.
    *
-   * @param val this parameter takes the location value of the direction
-   *            in which the player has to move
-   * @return the result of the move
-   * @throws IllegalArgumentException when the move entered is invalid
+   * @param direction this parameter takes the direction in which the player has to move
+   * @return the outcome of the move
+   * @throws IllegalArgumentException when the direction is null
    */
-  public String nextMove(String val) throws IllegalArgumentException;
+  public MoveOutcome move(Direction direction) throws IllegalArgumentException;
 
   /**
    * This method checks if the player has reached end of the dungeon.
@@ -38,12 +36,11 @@ public interface Dungeon {
   public String getNextPossibleDescription();
 
   /**
-   * This method updates the treasure list of the location and the player once the player decides
-   * to pick up the treasure at the current location.
+   * This method picks up the treasures at the current location and adds them to the player.
    *
-   * @return the string if the treasure has been picked up or not
+   * @return the no of treasures picked up, 0 when there were none
    */
-  public String pickTreasure();
+  public int takeTreasure();
 
   /**
    * This method provides the all the locations present in the dungeon.
@@ -63,6 +60,29 @@ public interface Dungeon {
    */
   public Map<Location, Integer> bfs(Location src) throws IllegalArgumentException;
 
+  /**
+   * This method provides the distance of every location of the dungeon from the given cave, as the
+   * no of moves needed to reach it. The distances are indexed by the location id.
+   *
+   * @param caveId this parameter takes the id of the location to measure the distances from
+   * @return the distances indexed by location id, with -1 for the locations that cannot be reached
+   * @throws IllegalArgumentException if the id is not a location of the dungeon
+   */
+  public int[] getDistances(int caveId) throws IllegalArgumentException;
+
+  /**
+   * This method provides the locations that can be reached from the given cave in at most the
+   * given no of moves. Only the locations within that distance are searched.
+   *
+   * @param caveId this parameter takes the id of the location to search from
+   * @param radius this parameter takes the largest no of moves
+   * @return the ids of the locations within the radius, other than the cave itself, in order of
+   *         their distance from the cave
+   * @throws IllegalArgumentException if the id is not a location of the dungeon or the radius is
+   *                                  negative
+   */
+  public int[] neighborsWithin(int caveId, int radius) throws IllegalArgumentException;
+
   /**
    * This method provides the player playing in the dungeon.
    *
@@ -93,12 +113,32 @@ public interface Dungeon {
   public String getPlayerDescription();
 
   /**
-   * This method picks up arrow from a location and updates the number of arrows the player has
-   * along with removing arrows from the current location.
+   * This method picks up the arrows at the current location and adds them to the player.
+   *
+   * @return the no of arrows picked up, 0 when there were none
+   */
+  public int takeArrows();
+
+  /**
+   * This method provides the id of the location the player is in, without copying the player.
    *
-   * @return the string is arrow is picked up or not
+   * @return the location id of the player
    */
-  public String pickArrow();
+  public int getPlayerLocationId();
+
+  /**
+   * This method provides the no of arrows the player has, without copying the player.
+   *
+   * @return the no of arrows
+   */
+  public int getPlayerArrowCount();
+
+  /**
+   * This method checks if the player is alive, without copying the player.
+   *
+   * @return true when the player has not been eaten
+   */
+  public boolean isPlayerAlive();
 
   /**
    * This method provides the type of smell in the dungeon coming from the nearby locations of the
@@ -110,15 +150,24 @@ public interface Dungeon {
   public SmellType checkSmell();
 
   /**
-   * This method shoots an arrow in the given direction and the required distance specified by the
-   * player. The method shoots and kills the Otyugh if it is present at specified parameter, else
-   * it misses the monster.
+   * This method shoots an arrow in the given direction and the required distance. The arrow kills
+   * or injures the Otyugh of the cave it stops in, else it misses.
    *
    * @param distance this parameter takes the distance till which the arrow should travel
    * @param direction this parameter takes the direction in which the arrow should travel
-   * @return true or false based on if the arrow is shot or not.
+   * @return the outcome of the shot
+   * @throws IllegalArgumentException when the distance is less than 1 or the direction is null
+   */
+  public ShotOutcome shoot(int distance, Direction direction) throws IllegalArgumentException;
+
+  /**
+   * This method puts the dungeon back to the content it was created with and the player back at
+   * the start cave with no treasure and the arrows of a new player. The passages are kept, and
+   * only the locations whose treasures, arrows, Otyugh or visit changed since the dungeon was
+   * created or last reset are restored. The randomizer is not rewound, so the escapes from
+   * injured Otyughs may differ in the next game.
    */
-  public String shootArrow(int distance, String direction);
+  public void reset();
 
   /**
    * This method provides the location description, along with the treasures and arrows present at
@@ -0,0 +1,131 @@
+package dungeon;
+
+import java.util.Objects;
+
+import randomizer.Randomizer;
+
+/**
+ * This class represents the parameters a dungeon is created from. Two configurations with the same
+ * parameters are equal, so a configuration can be used as the key of the dungeons created from it.
+ */
+public final class DungeonConfig {
+
+  private final int rows;
+  private final int columns;
+  private final int interconnectivity;
+  private final int treasurePercent;
+  private final boolean wrapping;
+  private final int monsterCount;
+  private final String generator;
+
+  /**
+   * Constructs a configuration whose passages are laid out by the kruskal generator.
+   *
+   * @param rows              this parameter takes the no of rows the dungeon can have
+   * @param columns           this parameter takes the no of columns the dungeon can have
+   * @param interconnectivity this parameter takes the interconnectivity value of the dungeon
+   * @param treasurePercent   this parameter takes the treasure percent of the dungeon
+   * @param wrapping          this parameter takes the wrapping status of the dungeon
+   * @param monsterCount      this parameter takes the number of monsters in the dungeon
+   */
+  public DungeonConfig(int rows, int columns, int interconnectivity, int treasurePercent,
+                       boolean wrapping, int monsterCount) {
+    this(rows, columns, interconnectivity, treasurePercent, wrapping, monsterCount,
+            MazeGenerator.KRUSKAL);
+  }
+
+  /**
+   * Constructs a configuration.
+   *
+   * @param rows              this parameter takes the no of rows the dungeon can have
+   * @param columns           this parameter takes the no of columns the dungeon can have
+   * @param interconnectivity this parameter takes the interconnectivity value of the dungeon
+   * @param treasurePercent   this parameter takes the treasure percent of the dungeon
+   * @param wrapping          this parameter takes the wrapping status of the dungeon
+   * @param monsterCount      this parameter takes the number of monsters in the dungeon
+   * @param generator         this parameter takes the name of the maze generator
+   * @throws IllegalArgumentException when the name of the generator is null
+   */
+  public DungeonConfig(int rows, int columns, int interconnectivity, int treasurePercent,
+                       boolean wrapping, int monsterCount, String generator)
+          throws IllegalArgumentException {
+    if (generator == null) {
+      throw new IllegalArgumentException("Maze generator cannot be null");
+    }
+    this.rows = rows;
+    this.columns = columns;
+    this.interconnectivity = interconnectivity;
+    this.treasurePercent = treasurePercent;
+    this.wrapping = wrapping;
+    this.monsterCount = monsterCount;
+    this.generator = generator;
+  }
+
+  /**
+   * This method creates a new dungeon from the configuration.
+   *
+   * @param randomizer this parameter takes the randomizer of the dungeon
+   * @return the dungeon
+   * @throws IllegalArgumentException when the parameters are invalid
+   */
+  public Dungeon create(Randomizer<?> randomizer) throws IllegalArgumentException {
+    return new DungeonImpl(rows, columns, interconnectivity, treasurePercent, wrapping,
+            monsterCount, generator, randomizer);
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public int getColumns() {
+    return columns;
+  }
+
+  public int getInterconnectivity() {
+    return interconnectivity;
+  }
+
+  public int getTreasurePercent() {
+    return treasurePercent;
+  }
+
+  public boolean isWrapping() {
+    return wrapping;
+  }
+
+  public int getMonsterCount() {
+    return monsterCount;
+  }
+
+  public String getGenerator() {
+    return generator;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof DungeonConfig)) {
+      return false;
+    }
+    DungeonConfig that = (DungeonConfig) o;
+    return rows == that.rows && columns == that.columns
+            && interconnectivity == that.interconnectivity
+            && treasurePercent == that.treasurePercent && wrapping == that.wrapping
+            && monsterCount == that.monsterCount && generator.equals(that.generator);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(rows, columns, interconnectivity, treasurePercent, wrapping, monsterCount,
+            generator);
+  }
+
+  @Override
+  public String toString() {
+    return rows + "x" + columns + " interconnectivity " + interconnectivity + " treasure "
+            + treasurePercent + "% " + (wrapping ? "wrapping" : "non-wrapping") + " monsters "
+            + monsterCount + " " + generator;
+  }
+}
@@ -0,0 +1,108 @@
+package dungeon;
+
+import randomizer.KeyedRandomizer;
+import randomizer.Randomizer;
+
+/**
+ * This interface represents the random decisions made while a dungeon is generated. Every
+ * decision names its phase and the location or edge it is about, so a keyed randomizer can work
+ * each one out on its own, while a sequential randomizer hands out its next numbers in the order
+ * the decisions are made.
+ */
+interface DungeonDraws {
+
+  int PERCENT = 0;
+  int EDGE_WEIGHT = 1;
+  int WRAP_WEIGHT = 2;
+  int EXTRA_EDGE = 3;
+  int START_CAVE = 4;
+  int TREASURE_CAVE = 5;
+  int TREASURE_COUNT = 6;
+  int TREASURE_TYPE = 7;
+  int ARROW_LOCATION = 8;
+  int ARROW_COUNT = 9;
+  int MONSTER_CAVE = 10;
+  int MAZE_JOIN = 11;
+  int MAZE_DOWN = 12;
+  int MAZE_STEP = 13;
+
+  /**
+   * This method provides the decisions of the given randomizer, keyed when the randomizer
+   * supports it and sequential otherwise.
+   *
+   * @param randomizer this parameter takes the randomizer
+   * @return the decisions
+   */
+  static DungeonDraws of(Randomizer randomizer) {
+    if (randomizer instanceof KeyedRandomizer) {
+      return new KeyedDraws((KeyedRandomizer) randomizer);
+    }
+    return new SequentialDraws(randomizer);
+  }
+
+  /**
+   * This method checks if every decision depends only on its phase, key and index, so the
+   * decisions can be made in any order and in parallel.
+   *
+   * @return true if the decisions are keyed
+   */
+  boolean isKeyed();
+
+  /**
+   * This method provides a random number between minimum and maximum values.
+   *
+   * @param phase this parameter takes the phase of the decision
+   * @param key   this parameter takes the location or edge the decision is about
+   * @param index this parameter takes the index of the decision among those of the key
+   * @param min   this parameter takes the minimum value
+   * @param max   this parameter takes the maximum value, which is never returned
+   * @return an integer between minimum and maximum value
+   */
+  int draw(int phase, int key, int index, int min, int max);
+
+  /**
+   * This method provides a random index below the given count. A randomizer that does not keep to
+   * the bounds, like the fixed one, is folded into them, so the index can always be used.
+   *
+   * @param phase this parameter takes the phase of the decision
+   * @param key   this parameter takes the location or edge the decision is about
+   * @param index this parameter takes the index of the decision among those of the key
+   * @param count this parameter takes the no of choices, at least 1
+   * @return an integer between 0 and count - 1
+   */
+  default int choose(int phase, int key, int index, int count) {
+    return Math.floorMod(draw(phase, key, index, 0, count), count);
+  }
+
+  /**
+   * This method fills the array with random numbers between minimum and maximum values, the
+   * number at position i being about keys[i], or about key i when no keys are given.
+   *
+   * @param phase this parameter takes the phase of the decisions
+   * @param keys  this parameter takes the keys of the numbers, or null
+   * @param dst   this parameter takes the array to fill
+   * @param min   this parameter takes the minimum value
+   * @param max   this parameter takes the maximum value, which is never returned
+   */
+  void fill(int phase, int[] keys, int[] dst, int min, int max);
+
+  /**
+   * This method reorders the ids in place so that the first k of them are a random sample of all
+   * of them.
+   *
+   * @param phase this parameter takes the phase of the decision
+   * @param ids   this parameter takes the ids to pick from
+   * @param k     this parameter takes the no of ids to pick
+   */
+  void pick(int phase, int[] ids, int k);
+
+  /**
+   * This method provides a random sample of k different ids between 0 and n - 1.
+   *
+   * @param phase this parameter takes the phase of the decision
+   * @param n     this parameter takes the no of ids to pick from
+   * @param k     this parameter takes the no of ids to pick
+   * @return the picked ids
+   */
+  int[] sample(int phase, int n, int k);
+}
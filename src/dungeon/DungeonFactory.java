@@ -0,0 +1,220 @@
+package dungeon;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import randomizer.Randomizer;
+
+/**
+ * This class represents a service that creates dungeons ahead of time, so a new game starts
+ * without waiting for the dungeon to be generated. Every configuration asked for gets a bounded
+ * pool of ready dungeons that worker threads fill in the background, a take hands out a ready
+ * dungeon and starts the creation of its replacement, and a configuration that has not been asked
+ * for in a while is dropped with its dungeons. When the pool of a configuration is empty the
+ * dungeon is created on the calling thread, so a take never waits on the workers.
+ */
+public class DungeonFactory implements AutoCloseable {
+
+  private final int poolSize;
+  private final long idleMillis;
+  private final Supplier<? extends Randomizer<?>> randomizers;
+  private final Map<DungeonConfig, Pool> pools;
+  private final ExecutorService workers;
+  private final ScheduledExecutorService evictor;
+
+  /**
+   * Constructs a factory with its worker threads.
+   *
+   * @param poolSize    this parameter takes the no of ready dungeons kept for every configuration
+   * @param workers     this parameter takes the no of threads that create dungeons
+   * @param idleMillis  this parameter takes the time in milliseconds after which a configuration
+   *                    that has not been asked for is dropped
+   * @param randomizers this parameter takes the source of a new randomizer for every dungeon
+   * @throws IllegalArgumentException when a size or the time is not positive or the source is null
+   */
+  public DungeonFactory(int poolSize, int workers, long idleMillis,
+                        Supplier<? extends Randomizer<?>> randomizers)
+          throws IllegalArgumentException {
+    if (poolSize < 1) {
+      throw new IllegalArgumentException("Pool size should be at least 1");
+    }
+    if (workers < 1) {
+      throw new IllegalArgumentException("Worker count should be at least 1");
+    }
+    if (idleMillis < 1) {
+      throw new IllegalArgumentException("Idle time should be positive");
+    }
+    if (randomizers == null) {
+      throw new IllegalArgumentException("Randomizer source cannot be null");
+    }
+    this.poolSize = poolSize;
+    this.idleMillis = idleMillis;
+    this.randomizers = randomizers;
+    this.pools = new ConcurrentHashMap<>();
+    this.workers = Executors.newFixedThreadPool(workers, daemon("dungeon-factory"));
+    this.evictor = Executors.newSingleThreadScheduledExecutor(daemon("dungeon-factory-evictor"));
+    long period = Math.max(1, idleMillis / 2);
+    evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * This method starts filling the pool of the configuration, so the dungeons are ready by the time
+   * they are taken.
+   *
+   * @param config this parameter takes the configuration
+   * @throws IllegalArgumentException when the configuration is null
+   * @throws IllegalStateException    when the factory is closed
+   */
+  public void prefetch(DungeonConfig config)
+          throws IllegalArgumentException, IllegalStateException {
+    refill(pool(config));
+  }
+
+  /**
+   * This method provides a new dungeon of the configuration, taken from its pool when one is ready
+   * and created on the calling thread otherwise. The pool is refilled in the background.
+   *
+   * @param config this parameter takes the configuration
+   * @return the dungeon, which is never handed out again
+   * @throws IllegalArgumentException when the configuration is null or its parameters are invalid
+   * @throws IllegalStateException    when the factory is closed
+   */
+  public Dungeon take(DungeonConfig config)
+          throws IllegalArgumentException, IllegalStateException {
+    Pool pool = pool(config);
+    Dungeon dungeon = pool.ready.poll();
+    if (dungeon == null) {
+      dungeon = config.create(randomizers.get());
+      pool.failed = false;
+    }
+    refill(pool);
+    return dungeon;
+  }
+
+  /**
+   * This method provides the no of dungeons of the configuration that are ready to be taken.
+   *
+   * @param config this parameter takes the configuration
+   * @return the no of ready dungeons, 0 when the configuration has no pool
+   */
+  public int available(DungeonConfig config) {
+    Pool pool = pools.get(config);
+    return pool == null ? 0 : pool.ready.size();
+  }
+
+  /**
+   * This method drops the pools of the configurations that have not been asked for within the idle
+   * time. It is run in the background, and can be called to drop them at once.
+   *
+   * @return the no of configurations dropped
+   */
+  public int evictIdle() {
+    long now = System.nanoTime();
+    int evicted = 0;
+    for (Map.Entry<DungeonConfig, Pool> entry : pools.entrySet()) {
+      if (now - entry.getValue().lastUsed >= TimeUnit.MILLISECONDS.toNanos(idleMillis)
+              && pools.remove(entry.getKey(), entry.getValue())) {
+        entry.getValue().ready.clear();
+        evicted++;
+      }
+    }
+    return evicted;
+  }
+
+  /**
+   * This method stops the worker threads and drops every pool. Dungeons being created are not
+   * waited for.
+   */
+  @Override
+  public void close() {
+    evictor.shutdownNow();
+    workers.shutdownNow();
+    pools.clear();
+  }
+
+  private Pool pool(DungeonConfig config) throws IllegalArgumentException, IllegalStateException {
+    if (config == null) {
+      throw new IllegalArgumentException("Configuration cannot be null");
+    }
+    if (workers.isShutdown()) {
+      throw new IllegalStateException("Factory is closed");
+    }
+    Pool pool = pools.computeIfAbsent(config, key -> new Pool(key, poolSize));
+    pool.lastUsed = System.nanoTime();
+    return pool;
+  }
+
+  //starts as many creations as the pool is short of, counting the ones still running
+  private void refill(Pool pool) {
+    while (true) {
+      int pending = pool.pending.get();
+      if (pool.failed || pool.ready.size() + pending >= poolSize) {
+        return;
+      }
+      if (pool.pending.compareAndSet(pending, pending + 1)) {
+        try {
+          workers.execute(() -> create(pool));
+        } catch (RuntimeException e) {
+          pool.pending.decrementAndGet();
+          return;
+        }
+      }
+    }
+  }
+
+  private void create(Pool pool) {
+    try {
+      //a pool dropped meanwhile is no longer in the map, so its dungeon is left for the collector
+      Dungeon dungeon = pool.config.create(randomizers.get());
+      if (pools.get(pool.config) == pool) {
+        pool.ready.offer(dungeon);
+      }
+    } catch (IllegalArgumentException e) {
+      //the pool stops refilling until a take creates a dungeon of the configuration, or reports
+      //the error on the calling thread
+      pool.failed = true;
+    } finally {
+      pool.pending.decrementAndGet();
+    }
+    //a refill that ran while this dungeon was counted both as ready and as pending started one
+    //creation too few, so the pool is topped up again once the count is right
+    if (pools.get(pool.config) == pool) {
+      refill(pool);
+    }
+  }
+
+  private static ThreadFactory daemon(String name) {
+    AtomicInteger count = new AtomicInteger();
+    return task -> {
+      Thread thread = new Thread(task, name + "-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  //the ready dungeons of a configuration and the no of dungeons still being created for it
+  private static final class Pool {
+    private final DungeonConfig config;
+    private final BlockingQueue<Dungeon> ready;
+    private final AtomicInteger pending;
+    private volatile long lastUsed;
+    private volatile boolean failed;
+
+    private Pool(DungeonConfig config, int size) {
+      this.config = config;
+      this.ready = new ArrayBlockingQueue<>(size);
+      this.pending = new AtomicInteger();
+      this.lastUsed = System.nanoTime();
+      this.failed = false;
+    }
+  }
+}
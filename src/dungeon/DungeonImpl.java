@@ -3,8 +3,6 @@ package dungeon;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -22,16 +20,18 @@ public class DungeonImpl implements Dungeon {
   private int rows;
   private int columns;
   private Randomizer randomizer;
-  private List<Edge> edges;
-  private List<Edge> mazeList;
+  private DungeonDraws draws;
+  private GridTopology topology;
+  private SmellIndex smell;
   private int interconnectivity;
   private List<Location> locationList;
   private Location startCave;
   private Location endCave;
-  private Player player;
+  private PlayerImpl player;
   private boolean wrapping;
   private int percent;
   private int monsterCount;
+  private CaveLog changes;
 
   /**
    * Constructs a new dungeon where the player can move.
@@ -48,6 +48,28 @@ public class DungeonImpl implements Dungeon {
   public DungeonImpl(int rows, int columns, int interconnectivity, int treasurePercent,
                      boolean wrapping, int monsterCount, Randomizer randomizer)
           throws IllegalArgumentException {
+    this(rows, columns, interconnectivity, treasurePercent, wrapping, monsterCount,
+            MazeGenerator.KRUSKAL, randomizer);
+  }
+
+  /**
+   * Constructs a new dungeon where the player can move, with the passages laid out by the
+   * maze generator of the given name.
+   *
+   * @param rows              this parameter takes the no of rows the dungeon can have
+   * @param columns           this parameter takes the no of columns the dungeon can have
+   * @param interconnectivity this parameter takes the interconnectivity value of the dungeon
+   * @param treasurePercent   this parameter takes the treasure percent of the dungeon
+   * @param wrapping          this parameter takes the wrapping status of the dungeon
+   * @param monsterCount      this parameter takes the number of monsters in the dungeon
+   * @param generator         this parameter takes the name of the maze generator, one of kruskal,
+   *                          boruvka, eller, wilson and growing-tree
+   * @param randomizer        this parameter takes the randomizer
+   * @throws IllegalArgumentException when the values entered are invalid or null
+   */
+  public DungeonImpl(int rows, int columns, int interconnectivity, int treasurePercent,
+                     boolean wrapping, int monsterCount, String generator, Randomizer randomizer)
+          throws IllegalArgumentException {
 
     if (rows <= 0) {
       throw new IllegalArgumentException("No of rows is invalid");
@@ -67,19 +89,17 @@ public class DungeonImpl implements Dungeon {
     if (randomizer == null) {
       throw new IllegalArgumentException("Randomizer entered is null. Enter correct randomizer");
     }
+    MazeGenerator maze = MazeGenerator.forName(generator);
     this.rows = rows;
     this.columns = columns;
     this.interconnectivity = interconnectivity;
     this.randomizer = randomizer;
     this.wrapping = wrapping;
     this.monsterCount = monsterCount;
-    this.percent = (treasurePercent + randomizer.getNextInt(0,
+    this.draws = DungeonDraws.of(randomizer);
+    this.percent = (treasurePercent + draws.draw(DungeonDraws.PERCENT, 0, 0, 0,
             (100 - treasurePercent)));
-    this.edges = new ArrayList<>();
-    KruskalAlgo maze = new KruskalAlgo();
-    createMaze();
-    mazeList = maze.kruskalAlgo(edges, rows * columns);
-    createMazeList();
+    topology = maze.generate(rows, columns, interconnectivity, wrapping, randomizer);
     createCaves();
     addNeighbors();
     setLocationType();
@@ -87,166 +107,85 @@ public class DungeonImpl implements Dungeon {
     addTreasureToCave();
     addArrowsToCave();
     addMonster();
+    addSmell();
+    watchCaves();
 
     player = new PlayerImpl("John", startCave);
   }
 
-  private void createMaze() {
-    int[][] dunArr = new int[rows][columns];
-    int counter = 0;
-    for (int i = 0; i < rows; i++) {
-      for (int j = 0; j < columns; j++) {
-        dunArr[i][j] = counter;
-        counter++;
-      }
-    }
-
-    //create edges for rows
-    for (int i = 0; i < rows; i++) {
-      for (int j = 0; j < columns - 1; j++) {
-        edges.add(new Edge(dunArr[i][j], dunArr[i][j + 1], randomizer.getNextInt(1, 10)));
-      }
-    }
-    //create edges for columns
-    for (int i = 0; i < rows - 1; i++) {
-      for (int j = 0; j < columns; j++) {
-        edges.add(new Edge(dunArr[i][j], dunArr[i + 1][j], randomizer.getNextInt(1, 10)));
-      }
-    }
-    if (wrapping) {
-      for (int i = 0; i < rows; i++) {
-        edges.add(new Edge(dunArr[i][0], dunArr[i][columns - 1], randomizer.getNextInt(0, 10)));
-      }
-
-      for (int i = 0; i < columns; i++) {
-        edges.add(new Edge(dunArr[0][i], dunArr[rows - 1][i], randomizer.getNextInt(0, 10)));
-      }
-    }
-  }
-
-  private void createMazeList() {
-    List<Edge> extraList = new ArrayList<>(edges);
-    extraList.removeAll(mazeList);
-    extraList = randomizer.shuffleList(extraList);
-
-    if (interconnectivity > extraList.size()) {
-      throw new IllegalArgumentException("Interconnectivity is wrong");
-    }
-    for (int i = 0; i < interconnectivity; i++) {
-      mazeList.add(extraList.get(i));
+  //the content is complete, so every change from now on is undone by a reset
+  private void watchCaves() {
+    changes = new CaveLog();
+    for (Location location : locationList) {
+      ((Cave) location).watch(changes);
     }
   }
 
   private void createCaves() {
-    locationList = new ArrayList<>();
-    for (int i = 0; i < rows * columns; i++) {
-      locationList.add(new Cave(i));
-    }
+    Cave[] caves = new Cave[rows * columns];
+    ParallelRange.forEach(0, caves.length, i -> caves[i] = new Cave(i));
+    locationList = new ArrayList<>(Arrays.asList(caves));
   }
 
   private void addNeighbors() {
-    for (int i = 0; i < locationList.size(); i++) {
-      for (int j = 0; j < mazeList.size(); j++) {
-        if (locationList.get(i).getId() == mazeList.get(j).getSrc()) {
-          if (mazeList.get(j).getDest() - mazeList.get(j).getSrc() == 1) {
-            locationList.get(i).addNeighbors(Direction.EAST,
-                    locationList.get(mazeList.get(j).getDest()));
-            locationList.get(mazeList.get(j).getDest())
-                    .addNeighbors(Direction.WEST, locationList.get(i));
-          } else if (mazeList.get(j).getDest() - mazeList.get(j).getSrc()
-                  == Math.abs(columns - 1)) {
-            locationList.get(i).addNeighbors(Direction.WEST,
-                    locationList.get(mazeList.get(j).getDest()));
-            locationList.get(mazeList.get(j).getDest())
-                    .addNeighbors(Direction.EAST, locationList.get(i));
-          } else if (mazeList.get(j).getDest() - mazeList.get(j).getSrc() == columns) {
-            locationList.get(i).addNeighbors(Direction.SOUTH,
-                    locationList.get(mazeList.get(j).getDest()));
-            locationList.get(mazeList.get(j).getDest())
-                    .addNeighbors(Direction.NORTH, locationList.get(i));
-          } else if (mazeList.get(j).getDest() - mazeList.get(j).getSrc() > columns) {
-            locationList.get(i).addNeighbors(Direction.NORTH,
-                    locationList.get(mazeList.get(j).getDest()));
-            locationList.get(mazeList.get(j).getDest())
-                    .addNeighbors(Direction.SOUTH, locationList.get(i));
-          }
+    ParallelRange.forEach(0, locationList.size(), i -> {
+      for (Direction direction : Direction.values()) {
+        int neighbor = topology.getNeighbor(i, direction);
+        if (neighbor >= 0) {
+          locationList.get(i).addNeighbors(direction, locationList.get(neighbor));
         }
       }
-    }
+    });
   }
 
   //setLocationType
   private void setLocationType() {
-    for (int i = 0; i < locationList.size(); i++) {
-      if (locationList.get(i).getNeighbors().size() == 2) {
-        locationList.get(i).setLocationType(LocationType.TUNNEL);
-      } else {
-        locationList.get(i).setLocationType(LocationType.CAVE);
-      }
-    }
+    ParallelRange.forEach(0, locationList.size(), i ->
+            locationList.get(i).setLocationType(topology.getLocationType(i)));
   }
 
   //give treasure to cave
   private void addTreasureToCave() {
-    List<Location> exclusiveCaveList = new ArrayList<>();
-    for (int i = 0; i < locationList.size(); i++) {
-      if (locationList.get(i).getLocationType().equals(LocationType.CAVE)) {
-        exclusiveCaveList.add(locationList.get(i));
-      }
-    }
-
-    exclusiveCaveList = randomizer.shuffleList(exclusiveCaveList);
+    int[] exclusiveCaveList = caveIds();
 
-    int noOfCavesWithTreasure = (int) Math.ceil((percent * exclusiveCaveList.size()) / 100.0);
+    int noOfCavesWithTreasure = (int) Math.ceil((percent * exclusiveCaveList.length) / 100.0);
+    draws.pick(DungeonDraws.TREASURE_CAVE, exclusiveCaveList, noOfCavesWithTreasure);
 
-    for (int i = 0; i < noOfCavesWithTreasure; i++) {
+    //with keyed decisions every cave is filled on its own, so the caves are filled in parallel
+    ParallelRange.forEach(0, noOfCavesWithTreasure, draws.isKeyed(), i -> {
+      int cave = exclusiveCaveList[i];
       List<Treasure> treasures = new ArrayList<>(Arrays.asList(Treasure.values()));
-      for (int j = 0; j <= randomizer.getNextInt(0, treasures.size()); j++) {
-        exclusiveCaveList.get(i).addTreasureList(treasures.get((randomizer
-                .getNextInt(0, treasures.size())) % 3));
+      for (int j = 0; j <= draws.draw(DungeonDraws.TREASURE_COUNT, cave, j, 0,
+              treasures.size()); j++) {
+        locationList.get(cave).addTreasureList(treasures.get((draws
+                .draw(DungeonDraws.TREASURE_TYPE, cave, j, 0, treasures.size())) % 3));
       }
-    }
+    });
   }
 
   //add Arrows to the cave
   private void addArrowsToCave() {
     int noOfCavesWithArrows = (int) Math.ceil((percent * locationList.size()) / 100.0);
 
-    List<Location> locationListCopy = new ArrayList<>(locationList);
-    locationListCopy = randomizer.shuffleList(locationListCopy);
-    for (int i = 0; i < noOfCavesWithArrows; i++) {
-      locationListCopy.get(i).addArrow(randomizer
-              .getNextInt(1, 4));
-    }
-  }
-
-  private Direction convert(String input) {
-    Direction direction = null;
-
-    if (input.equalsIgnoreCase("E")) {
-      direction = Direction.EAST;
-    } else if (input.equalsIgnoreCase("W")) {
-      direction = Direction.WEST;
-    } else if (input.equalsIgnoreCase("S")) {
-      direction = Direction.SOUTH;
-    } else if (input.equalsIgnoreCase("N")) {
-      direction = Direction.NORTH;
-    }
-    return direction;
+    int[] locationIds = draws.sample(DungeonDraws.ARROW_LOCATION, locationList.size(),
+            noOfCavesWithArrows);
+    int[] arrowCounts = new int[noOfCavesWithArrows];
+    draws.fill(DungeonDraws.ARROW_COUNT, locationIds, arrowCounts, 1, 4);
+    ParallelRange.forEach(0, noOfCavesWithArrows, i ->
+            locationList.get(locationIds[i]).addArrow(arrowCounts[i]));
   }
 
   //check if neighbor exist
   private boolean checkNeighborExist(Location l, Direction d) {
-    return l.getNeighbors().containsKey(d);
+    return ((Cave) l).neighbor(d) != null;
   }
 
-  //shoot arrow
+  /**
+   * {@inheritDoc}
+   */
   @Override
-  public String shootArrow(int dist, String dir) throws IllegalArgumentException {
-
-    if ((!dir.equalsIgnoreCase("N") && !dir.equalsIgnoreCase("S")
-            && !dir.equalsIgnoreCase("E") && !dir.equalsIgnoreCase("W"))
-            || dir == null) {
+  public ShotOutcome shoot(int dist, Direction direction) throws IllegalArgumentException {
+    if (direction == null) {
       throw new IllegalArgumentException("Invalid Direction");
     }
 
@@ -254,28 +193,23 @@ public class DungeonImpl implements Dungeon {
       throw new IllegalArgumentException("Distance should be at least 1");
     }
 
-    StringBuilder sb = new StringBuilder();
-
     if (player.getArrowCount() <= 0) {
-      sb.append("\nYou are out of arrows, explore to find more");
-      return sb.toString();
+      return ShotOutcome.NO_ARROWS;
     }
     Location currArrowLoc = player.getCurrentLocation();
-    Direction direction = convert(dir);
-
 
     while (dist > 0) {
       if (!(checkNeighborExist(currArrowLoc, direction))) {
-        sb.append("\nYou shot an arrow into the darkness");
-        return sb.toString();
+        return ShotOutcome.HIT_WALL;
       } else {
-        currArrowLoc = currArrowLoc.getNeighbors().get(direction);
+        currArrowLoc = ((Cave) currArrowLoc).neighbor(direction);
         if (currArrowLoc.getLocationType() == LocationType.CAVE) {
           dist--;
         } else {
-          for (Map.Entry<Direction, Location> map : currArrowLoc.getNeighbors().entrySet()) {
-            if (map.getKey() != direction) {
-              direction = map.getKey();
+          //the arrow leaves the tunnel through the door it did not come in from
+          for (Direction exit : Direction.VALUES) {
+            if (exit != direction.getOpposite() && checkNeighborExist(currArrowLoc, exit)) {
+              direction = exit;
               break;
             }
           }
@@ -283,46 +217,65 @@ public class DungeonImpl implements Dungeon {
       }
     }
 
-    if (dist == 0) {
-      player.decreaseArrow();
-      if (currArrowLoc.hasMonster() && currArrowLoc.getMonster().getHealth() > 0) {
-        currArrowLoc.hitMonster();
-        if (currArrowLoc.getMonster().getHealth() == 50) {
-          sb.append("\nPlayer shot the monster, monster is injured");
-        } else if (currArrowLoc.getMonster().getHealth() == 0) {
-          sb.append("\nPlayer shot the monster, monster has been killed");
-        }
-      } else {
-        sb.append("\nPlayer shot an arrow into the darkness");
-      }
-      return sb.toString();
+    player.decreaseArrow();
+    Cave target = (Cave) currArrowLoc;
+    if (target.hasMonster() && target.monsterHealth() > 0) {
+      //the cave takes the smell of a killed Otyugh away
+      target.hitMonster();
+      return target.monsterHealth() == 50 ? ShotOutcome.INJURED : ShotOutcome.KILLED;
     }
-    sb.append("\nYou shot an arrow into the darkness");
-    return sb.toString();
+    return ShotOutcome.MISSED;
   }
 
   //add monster to the cave
   private void addMonster() throws IllegalArgumentException {
-    List<Location> caveListCopy = new ArrayList<>();
-    for (int i = 0; i < locationList.size(); i++) {
-      if (locationList.get(i).getLocationType() == LocationType.CAVE) {
-        caveListCopy.add(locationList.get(i));
-      }
-    }
+    int[] caveIds = caveIds();
 
-    if (monsterCount > caveListCopy.size()) {
+    if (monsterCount > caveIds.length) {
       throw new IllegalArgumentException("Monster count is greater than no of caves");
     }
 
-    caveListCopy.remove(startCave);
     endCave.addMonster();
-    caveListCopy.remove(endCave);
+    //the start and end caves are left out of the random pick
+    int[] caveListCopy = new int[caveIds.length];
+    int count = 0;
+    for (int id : caveIds) {
+      if (id != startCave.getId() && id != endCave.getId()) {
+        caveListCopy[count++] = id;
+      }
+    }
+    caveListCopy = Arrays.copyOf(caveListCopy, count);
+    if (monsterCount - 1 > caveListCopy.length) {
+      throw new IllegalArgumentException("Monster count is greater than no of caves");
+    }
 
-    //shuffle
-    randomizer.shuffleList(caveListCopy);
+    draws.pick(DungeonDraws.MONSTER_CAVE, caveListCopy, monsterCount - 1);
+
+    int[] monsterCaves = caveListCopy;
+    ParallelRange.forEach(0, monsterCount - 1, i -> locationList.get(monsterCaves[i]).addMonster());
+  }
+
+  //ids of all the caves, in order of id
+  private int[] caveIds() {
+    int[] caves = new int[locationList.size()];
+    int count = 0;
+    for (Location location : locationList) {
+      if (location.getLocationType() == LocationType.CAVE) {
+        caves[count++] = location.getId();
+      }
+    }
+    return Arrays.copyOf(caves, count);
+  }
 
-    for (int i = 0; i < monsterCount - 1; i++) {
-      caveListCopy.get(i).addMonster();
+  //smell of the Otyughs at every location, kept up to date by the caves from now on, so the
+  //caves handed out by getLocationList change it too
+  private void addSmell() {
+    smell = new SmellIndex(topology);
+    for (Location location : locationList) {
+      if (location.hasMonster() && location.getMonster().getHealth() > 0) {
+        smell.addMonster(location.getId());
+      }
+      ((Cave) location).watch(smell);
     }
   }
 
@@ -331,57 +284,18 @@ public class DungeonImpl implements Dungeon {
    */
   @Override
   public SmellType checkSmell() {
-    int count = 0;
-    Map<Location, Integer> level = bfs(this.player.getCurrentLocation());
-    for (Location name : level.keySet()) {
-      if (level.get(name) == 1 && name.hasMonster() && name.getMonster().getHealth() > 0) {
-        return SmellType.HIGH;
-      } else if (level.get(name) == 2 && name.hasMonster() && name.getMonster().getHealth() > 0) {
-        count++;
-      }
-    }
-
-    if (count >= 2) {
-      return SmellType.HIGH;
-    } else if (count == 1) {
-      return SmellType.LOW;
-    } else {
-      return SmellType.NONE;
-    }
+    return smell.getSmell(this.player.getCurrentLocation().getId());
   }
 
   //start and end cave
   private void findMinPath() {
+    //Only taking the caves as the possible start positions, shuffled to take random.
+    int[] possibleStart = caveIds();
+    draws.pick(DungeonDraws.START_CAVE, possibleStart, possibleStart.length);
 
-    List<Location> possibleStart = new ArrayList<Location>();
-
-    //Only taking the caves as the possible start positions.
-    for (Location location : locationList) {
-      if (location.getLocationType() != LocationType.TUNNEL) {
-        possibleStart.add(location);
-      }
-    }
-
-    //Shuffling possible start to take random.
-    possibleStart = randomizer.shuffleList(possibleStart);
-
-    for (Location i : possibleStart) {
-      this.startCave = i;
-      Map<Location, Integer> level = bfs(this.startCave);
-      this.endCave = null;
-      for (Location name : level.keySet()) {
-        if (level.get(name) >= 5 && name.getLocationType() == LocationType.CAVE) {
-          this.endCave = name;
-          break;
-        }
-      }
-      if (this.endCave != null) {
-        break;
-      }
-    }
-    if (this.endCave == null) {
-      throw new IllegalArgumentException("The matrix size is not valid, no start end possible!");
-    }
+    int[] startEnd = StartEndSearch.find(topology, possibleStart);
+    this.startCave = locationList.get(startEnd[0]);
+    this.endCave = locationList.get(startEnd[1]);
   }
 
   /**
@@ -393,76 +307,74 @@ public class DungeonImpl implements Dungeon {
       throw new IllegalArgumentException("Source location cannot be null");
     }
 
-    LinkedList<Location> queue = new LinkedList();
+    GridBfs search = GridBfs.get();
+    int reached = search.run(topology, src.getId());
     Map<Location, Integer> locationLevelMap = new HashMap<>();
+    for (int i = 0; i < reached; i++) {
+      int id = search.order(i);
+      locationLevelMap.put(locationList.get(id), search.distance(id));
+    }
+    return locationLevelMap;
+  }
 
-    src.updateVisit(true);
-    queue.add(src);
-    locationLevelMap.put(src, 0);
-
-    while (queue.size() != 0) {
-      src = queue.poll();
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int[] getDistances(int caveId) throws IllegalArgumentException {
+    GridBfs search = GridBfs.get();
+    search.run(topology, caveId);
+    return search.copyDistances(topology.size());
+  }
 
-      Iterator<Location> i = new ArrayList<Location>(src.getNeighbors().values()).listIterator();
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int[] neighborsWithin(int caveId, int radius) throws IllegalArgumentException {
+    GridBfs search = GridBfs.get();
+    search.run(topology, caveId, radius);
+    return search.copyReached();
+  }
 
-      while (i.hasNext()) {
-        Location n = i.next();
-        if (!n.isVisited()) {
-          n.updateVisit(true);
-          queue.add(n);
-          locationLevelMap.put(n, locationLevelMap.get(src) + 1);
-        }
-      }
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public MoveOutcome move(Direction direction) throws IllegalArgumentException {
+    if (direction == null) {
+      throw new IllegalArgumentException("Direction cannot be null");
+    }
+    //the move follows the neighbors of the cave, without copying them
+    Location current = ((Cave) player.getCurrentLocation()).neighbor(direction);
+    if (current == null) {
+      return MoveOutcome.BLOCKED;
     }
+    player.moveTo(current);
 
-    for (Location i : locationList) {
-      i.updateVisit(false);
+    if (!current.hasMonster()) {
+      return MoveOutcome.MOVED;
     }
-    return new HashMap<>(locationLevelMap);
+    int escape = randomizer.getNextInt(0, 2);
+    int health = ((Cave) current).monsterHealth();
+    if (health == 100 || (health == 50 && escape % 2 == 1)) {
+      player.killPlayer();
+      return MoveOutcome.EATEN;
+    }
+    return health == 50 ? MoveOutcome.ESCAPED : MoveOutcome.MOVED;
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public String nextMove(String val) throws IllegalArgumentException {
-    boolean result;
-    StringBuilder sb = new StringBuilder();
-    if (val.equalsIgnoreCase("N")) {
-      result = player.move(Direction.NORTH);
-    } else if (val.equalsIgnoreCase("S")) {
-      result = player.move(Direction.SOUTH);
-    } else if (val.equalsIgnoreCase("E")) {
-      result = player.move(Direction.EAST);
-    } else if (val.equalsIgnoreCase("W")) {
-      result = player.move(Direction.WEST);
-    } else {
-      throw new IllegalArgumentException("Invalid move " + val);
-    }
-
-    if (result) {
-      if (player.getCurrentLocation().hasMonster()) {
-        int escape = randomizer.getNextInt(0, 2);
-        if ((player.getCurrentLocation().getMonster().getHealth() == 100)
-                || (player.getCurrentLocation().getMonster().getHealth() == 50
-                && escape % 2 == 1)) {
-          player.killPlayer();
-          sb.append("\nMonster in cave! Chomp, chomp, chomp, player got eaten by an Otyugh!");
-          sb.append("\nBetter luck next time");
-        } else if ((player.getCurrentLocation().getMonster().getHealth() == 50
-                && escape % 2 == 0)) {
-          sb.append("Player escaped successfully from an injured Otyugh, and moved to location "
-                  + player.getCurrentLocation().getId());
-        } else if (player.getCurrentLocation().getMonster().getHealth() == 0) {
-          sb.append("Player moved successfully to location " + player.getCurrentLocation().getId());
-        }
-      } else {
-        sb.append("Player moved successfully to location " + player.getCurrentLocation().getId());
-      }
-    } else {
-      sb.append("\nMove not possible ").append(val);
+  public void reset() {
+    for (int i = 0; i < changes.size(); i++) {
+      Cave saved = changes.get(i);
+      ((Cave) locationList.get(saved.getId())).restore(saved);
     }
-    return sb.toString();
+    changes.clear();
+    player = new PlayerImpl("John", startCave);
   }
 
   /**
@@ -494,30 +406,48 @@ public class DungeonImpl implements Dungeon {
    * {@inheritDoc}
    */
   @Override
-  public String pickTreasure() {
-    StringBuilder sb = new StringBuilder();
-    if (player.getCurrentLocation().getTreasureList().size() > 0) {
+  public int takeTreasure() {
+    int count = ((Cave) player.getCurrentLocation()).treasureCount();
+    if (count > 0) {
       player.updateTreasureList();
-      sb.append("Treasure picked up");
-    } else {
-      sb.append("No treasure present at the location");
     }
-    return sb.toString();
+    return count;
   }
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public String pickArrow() {
-    StringBuilder sb = new StringBuilder();
-    if (player.getCurrentLocation().getArrow() > 0) {
+  public int takeArrows() {
+    int count = player.getCurrentLocation().getArrow();
+    if (count > 0) {
       player.pickUpArrow();
-      sb.append("Arrow picked up");
-    } else {
-      sb.append("No arrow present at the location");
     }
-    return sb.toString();
+    return count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getPlayerLocationId() {
+    return player.getCurrentLocation().getId();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getPlayerArrowCount() {
+    return player.getArrowCount();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isPlayerAlive() {
+    return player.isAlive();
   }
 
   /**
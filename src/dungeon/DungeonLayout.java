@@ -0,0 +1,115 @@
+package dungeon;
+
+import java.util.Arrays;
+
+import randomizer.Randomizer;
+
+/**
+ * This class represents the layout of a dungeon, the parts that never change while the game is
+ * played: the passages, the type of every location and the start and end caves. A layout is
+ * read only once it is created, so any no of grid dungeons, on any no of threads, can be played
+ * on the same layout while each of them only keeps the treasures, arrows, Otyughs and the player
+ * of its own game.
+ */
+public final class DungeonLayout {
+
+  private final GridTopology topology;
+  private final int[] caves;
+  private final int startCave;
+  private final int endCave;
+
+  private DungeonLayout(GridTopology topology, int[] caves, int startCave, int endCave) {
+    this.topology = topology;
+    this.caves = caves;
+    this.startCave = startCave;
+    this.endCave = endCave;
+  }
+
+  /**
+   * This method creates a new layout.
+   *
+   * @param rows              this parameter takes the no of rows the dungeon can have
+   * @param columns           this parameter takes the no of columns the dungeon can have
+   * @param interconnectivity this parameter takes the interconnectivity value of the dungeon
+   * @param wrapping          this parameter takes the wrapping status of the dungeon
+   * @param generator         this parameter takes the name of the maze generator
+   * @param randomizer        this parameter takes the randomizer
+   * @return the layout
+   * @throws IllegalArgumentException when the values entered are invalid or null
+   */
+  public static DungeonLayout create(int rows, int columns, int interconnectivity,
+                                     boolean wrapping, String generator, Randomizer<?> randomizer)
+          throws IllegalArgumentException {
+    if (interconnectivity < 0) {
+      throw new IllegalArgumentException("Inter connectivity entered is invalid");
+    }
+    if (randomizer == null) {
+      throw new IllegalArgumentException("Randomizer entered is null. Enter correct randomizer");
+    }
+    GridTopology topology = MazeGenerator.forName(generator)
+            .generate(rows, columns, interconnectivity, wrapping, randomizer);
+    return of(topology, DungeonDraws.of(randomizer));
+  }
+
+  //picks the start and end caves of the passages
+  static DungeonLayout of(GridTopology topology, DungeonDraws draws)
+          throws IllegalArgumentException {
+    int[] caves = new int[topology.size()];
+    int count = 0;
+    for (int i = 0; i < topology.size(); i++) {
+      if (topology.getLocationType(i) == LocationType.CAVE) {
+        caves[count++] = i;
+      }
+    }
+    caves = Arrays.copyOf(caves, count);
+
+    int[] possibleStart = caves.clone();
+    draws.pick(DungeonDraws.START_CAVE, possibleStart, possibleStart.length);
+    int[] startEnd = StartEndSearch.find(topology, possibleStart);
+    return new DungeonLayout(topology, caves, startEnd[0], startEnd[1]);
+  }
+
+  /**
+   * This method provides the passages of the layout. The doors can only be changed from within the
+   * package, so the topology is read only to every other caller.
+   *
+   * @return the passages of the layout
+   */
+  public GridTopology getTopology() {
+    return topology;
+  }
+
+  //caves in the order of their id, in a new array the caller may change
+  int[] copyCaves() {
+    return caves.clone();
+  }
+
+  /**
+   * This method provides the no of caves of the layout.
+   *
+   * @return the no of caves
+   */
+  public int getCaveCount() {
+    return caves.length;
+  }
+
+  public int getRows() {
+    return topology.getRows();
+  }
+
+  public int getColumns() {
+    return topology.getColumns();
+  }
+
+  public boolean isWrapping() {
+    return topology.isWrapping();
+  }
+
+  public int getStartCave() {
+    return startCave;
+  }
+
+  public int getEndCave() {
+    return endCave;
+  }
+}
@@ -1,9 +1,10 @@
 package dungeon;
 
 import java.io.InputStreamReader;
+import java.util.concurrent.ThreadLocalRandom;
 
 import controller.CommandController;
-import randomizer.ActualRandomizer;
+import randomizer.SeededRandomizer;
 
 /**
  * This a DungeonMain class which acts like a user input for the project.
@@ -19,7 +20,7 @@ public class DungeonMain {
 
     Dungeon dungeon;
     try {
-      if (args.length < 5) {
+      if (args.length < 6) {
         throw new IllegalArgumentException("Invalid command line arguments given. "
                 + "Please provide correct arguments");
       }
@@ -29,11 +30,16 @@ public class DungeonMain {
       int treasurePercent = Integer.parseInt(args[3]);
       boolean wrapping = Boolean.parseBoolean(args[4]);
       int monsterCount = Integer.parseInt(args[5]);
+      //the seed is printed, so the same dungeon can be created again by passing it
+      long seed = args.length > 6 ? Long.parseLong(args[6])
+              : ThreadLocalRandom.current().nextLong();
+      String generator = args.length > 7 ? args[7] : MazeGenerator.KRUSKAL;
 
       dungeon = new DungeonImpl(rows, cols, interConnectivity, treasurePercent, wrapping,
-              monsterCount, new ActualRandomizer());
+              monsterCount, generator, new SeededRandomizer(seed));
 
       System.out.println("*********** Dungeon Created ***************");
+      System.out.println("Seed: " + seed);
       System.out.println(dungeon);
       System.out.println("*************** Game Begins ***************");
       System.out.println("Start Cave: " + dungeon.getStartCave().getId());
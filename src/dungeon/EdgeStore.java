@@ -0,0 +1,193 @@
+package dungeon;
+
+import java.util.Arrays;
+
+/**
+ * This class represents a list of edges in a dungeon with their source, destination, weight and
+ * whether the edge wraps around the dungeon. Every edge is packed in a single long of a primitive
+ * array, so the edges of a large dungeon take eight bytes each instead of an object per edge, and
+ * the list can be ordered by weight without boxing.
+ */
+class EdgeStore {
+
+  //bit layout of an edge: weight (7) | wrap (1) | source (28) | destination (28)
+  private static final int ID_BITS = 28;
+  private static final long ID_MASK = (1L << ID_BITS) - 1;
+  private static final int WRAP_SHIFT = 2 * ID_BITS;
+  private static final int WEIGHT_SHIFT = WRAP_SHIFT + 1;
+  private static final int MAX_WEIGHT = (1 << (Long.SIZE - WEIGHT_SHIFT)) - 1;
+
+  /**
+   * The largest location id that can be stored in an edge.
+   */
+  static final int MAX_ID = (int) ID_MASK;
+
+  private long[] edges;
+  private int size;
+
+  /**
+   * Constructs an empty list of edges.
+   *
+   * @param capacity this parameter takes the number of edges the list is expected to hold
+   * @throws IllegalArgumentException when the capacity is negative
+   */
+  public EdgeStore(int capacity) throws IllegalArgumentException {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity cannot be negative");
+    }
+    this.edges = new long[capacity];
+    this.size = 0;
+  }
+
+  /**
+   * This method adds a new edge at the end of the list.
+   *
+   * @param src    this parameter takes the id of the source location
+   * @param dest   this parameter takes the id of the destination location
+   * @param weight this parameter takes the weight of the edge
+   * @param wrap   this parameter takes whether the edge wraps around the dungeon
+   * @throws IllegalArgumentException when an id or the weight cannot be stored
+   */
+  public void add(int src, int dest, int weight, boolean wrap) throws IllegalArgumentException {
+    addPacked(pack(src, dest, weight, wrap));
+  }
+
+  private static long pack(int src, int dest, int weight, boolean wrap)
+          throws IllegalArgumentException {
+    if (src < 0 || src > MAX_ID || dest < 0 || dest > MAX_ID) {
+      throw new IllegalArgumentException("Location id cannot be stored in an edge");
+    }
+    if (weight < 0 || weight > MAX_WEIGHT) {
+      throw new IllegalArgumentException("Edge weight should be between 0-" + MAX_WEIGHT);
+    }
+    return ((long) weight << WEIGHT_SHIFT) | ((wrap ? 1L : 0L) << WRAP_SHIFT)
+            | ((long) src << ID_BITS) | dest;
+  }
+
+  /**
+   * This method adds the given no of empty edges at the end of the list, to be written with set.
+   * Different edges can then be written from different threads.
+   *
+   * @param count this parameter takes the number of edges to add
+   * @throws IllegalArgumentException when the count is negative
+   */
+  public void extend(int count) throws IllegalArgumentException {
+    if (count < 0) {
+      throw new IllegalArgumentException("Count cannot be negative");
+    }
+    if (size + count > edges.length) {
+      edges = Arrays.copyOf(edges, size + count);
+    }
+    size += count;
+  }
+
+  /**
+   * This method replaces the edge at the given index.
+   *
+   * @param index  this parameter takes the index of the edge
+   * @param src    this parameter takes the id of the source location
+   * @param dest   this parameter takes the id of the destination location
+   * @param weight this parameter takes the weight of the edge
+   * @param wrap   this parameter takes whether the edge wraps around the dungeon
+   * @throws IllegalArgumentException when the index is outside the list or an id or the weight
+   *                                  cannot be stored
+   */
+  public void set(int index, int src, int dest, int weight, boolean wrap)
+          throws IllegalArgumentException {
+    if (index < 0 || index >= size) {
+      throw new IllegalArgumentException("Edge index is outside the list");
+    }
+    edges[index] = pack(src, dest, weight, wrap);
+  }
+
+  /**
+   * This method adds an edge that has already been packed by another list.
+   *
+   * @param edge this parameter takes the packed edge
+   */
+  public void addPacked(long edge) {
+    if (size == edges.length) {
+      edges = Arrays.copyOf(edges, Math.max(8, size + (size >> 1)));
+    }
+    edges[size++] = edge;
+  }
+
+  /**
+   * This method provides the number of edges in the list.
+   *
+   * @return the number of edges
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * This method provides the packed edge at the given index.
+   *
+   * @param index this parameter takes the index of the edge
+   * @return the packed edge
+   */
+  public long get(int index) {
+    return edges[index];
+  }
+
+  public int getSrc(int index) {
+    return (int) ((edges[index] >>> ID_BITS) & ID_MASK);
+  }
+
+  public int getDest(int index) {
+    return (int) (edges[index] & ID_MASK);
+  }
+
+  public int getWeight(int index) {
+    return (int) (edges[index] >>> WEIGHT_SHIFT);
+  }
+
+  public boolean isWrap(int index) {
+    return ((edges[index] >>> WRAP_SHIFT) & 1L) == 1L;
+  }
+
+  /**
+   * This method orders the edges by weight in linear time with one bucket per weight, edges with
+   * the same weight keep their order.
+   *
+   * @return the start index of every bucket followed by the number of edges, bucket b holds the
+   *         edges of weight b
+   */
+  public int[] sortByWeight() {
+    int max = 0;
+    for (int i = 0; i < size; i++) {
+      max = Math.max(max, getWeight(i));
+    }
+
+    int[] bucketStart = new int[max + 2];
+    for (int i = 0; i < size; i++) {
+      bucketStart[getWeight(i) + 1]++;
+    }
+    for (int b = 1; b < bucketStart.length; b++) {
+      bucketStart[b] += bucketStart[b - 1];
+    }
+
+    int[] next = Arrays.copyOf(bucketStart, bucketStart.length);
+    long[] ordered = new long[edges.length];
+    for (int i = 0; i < size; i++) {
+      ordered[next[getWeight(i)]++] = edges[i];
+    }
+    edges = ordered;
+    return bucketStart;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("[");
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append("(" + getSrc(i) + ", " + getDest(i) + ", " + getWeight(i) + ")");
+    }
+    sb.append("]");
+    return sb.toString();
+  }
+}
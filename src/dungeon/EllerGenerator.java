@@ -0,0 +1,110 @@
+package dungeon;
+
+import java.util.Arrays;
+
+import randomizer.Randomizer;
+
+/**
+ * This class represents the Eller Algorithm, which builds the maze one row at a time. Every
+ * location of the current row carries the set of locations it is already connected to. Adjacent
+ * locations of different sets are joined at random, then every set goes on to the next row through
+ * at least one random location, and the last row joins all the sets that are left. Only the sets
+ * of one row are kept, so apart from the passages themselves the algorithm needs memory for the
+ * no of columns and the extra passages, however many rows the dungeon has.
+ */
+class EllerGenerator implements MazeGenerator {
+
+  @Override
+  public GridTopology generate(int rows, int columns, int interconnectivity, boolean wrapping,
+                               Randomizer randomizer) throws IllegalArgumentException {
+    ExtraPassages.check(rows, columns, wrapping, interconnectivity);
+    GridTopology topology = new GridTopology(rows, columns, wrapping);
+    DungeonDraws draws = DungeonDraws.of(randomizer);
+    ExtraPassages extra = new ExtraPassages(draws, interconnectivity);
+
+    //the set of every location of the row, sets are numbered below the no of columns
+    int[] set = new int[columns];
+    int[] parent = new int[columns];
+    int[] left = new int[columns];
+    boolean[] goesOn = new boolean[columns];
+    boolean[] down = new boolean[columns];
+    int[] renamed = new int[columns];
+    for (int c = 0; c < columns; c++) {
+      set[c] = c;
+    }
+
+    for (int row = 0; row < rows; row++) {
+      int base = row * columns;
+      boolean last = row == rows - 1;
+      for (int c = 0; c < columns; c++) {
+        parent[c] = c;
+      }
+
+      //east passages, the one of the last column wraps around to the first column
+      int eastPassages = wrapping && columns > 1 ? columns : columns - 1;
+      for (int c = 0; c < eastPassages; c++) {
+        int a = find(parent, set[c]);
+        int b = find(parent, set[(c + 1) % columns]);
+        if (a != b && (last || draws.draw(DungeonDraws.MAZE_JOIN, base + c, 0, 0, 2) == 0)) {
+          parent[b] = a;
+          topology.open(base + c, Direction.EAST);
+        } else {
+          extra.offer(base + c, Direction.EAST);
+        }
+      }
+
+      if (last) {
+        //the south passages of the last row wrap around to the first row
+        for (int c = 0; wrapping && rows > 1 && c < columns; c++) {
+          extra.offer(base + c, Direction.SOUTH);
+        }
+        break;
+      }
+
+      //south passages, the last location of a set goes on when no other one did
+      Arrays.fill(left, 0);
+      Arrays.fill(goesOn, false);
+      for (int c = 0; c < columns; c++) {
+        set[c] = find(parent, set[c]);
+        left[set[c]]++;
+      }
+      for (int c = 0; c < columns; c++) {
+        left[set[c]]--;
+        down[c] = draws.draw(DungeonDraws.MAZE_DOWN, base + c, 0, 0, 2) == 0
+                || (left[set[c]] == 0 && !goesOn[set[c]]);
+        if (down[c]) {
+          goesOn[set[c]] = true;
+          topology.open(base + c, Direction.SOUTH);
+        } else {
+          extra.offer(base + c, Direction.SOUTH);
+        }
+      }
+
+      //the next row keeps the sets that went on and starts a new set everywhere else
+      Arrays.fill(renamed, -1);
+      int sets = 0;
+      for (int c = 0; c < columns; c++) {
+        if (!down[c]) {
+          set[c] = sets++;
+        } else {
+          if (renamed[set[c]] < 0) {
+            renamed[set[c]] = sets++;
+          }
+          set[c] = renamed[set[c]];
+        }
+      }
+    }
+
+    extra.open(topology);
+    return topology;
+  }
+
+  //the set a set was merged into, pointing every set on the way to its grandparent
+  private static int find(int[] parent, int k) {
+    while (parent[k] != k) {
+      parent[k] = parent[parent[k]];
+      k = parent[k];
+    }
+    return k;
+  }
+}
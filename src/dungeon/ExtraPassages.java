@@ -0,0 +1,110 @@
+package dungeon;
+
+/**
+ * This class represents the extra passages of a maze, picked at random among the passages left
+ * closed by the spanning tree. The closed passages are offered one at a time and a reservoir keeps
+ * every one of them with the same chance, so the picked passages take memory for the no of extra
+ * passages only and the closed passages are never listed. A passage is named by the location it
+ * starts from and the direction, east or south, it leaves in.
+ */
+final class ExtraPassages {
+
+  private static final Direction[] FORWARD = {Direction.EAST, Direction.SOUTH};
+
+  private final DungeonDraws draws;
+  private final long[] picked;
+  private int offered;
+
+  /**
+   * Constructs an empty reservoir of extra passages.
+   *
+   * @param draws this parameter takes the random decisions
+   * @param count this parameter takes the no of extra passages to pick
+   */
+  ExtraPassages(DungeonDraws draws, int count) {
+    this.draws = draws;
+    this.picked = new long[count];
+    this.offered = 0;
+  }
+
+  /**
+   * This method checks that a grid has enough passages left after the spanning tree for the given
+   * no of extra passages.
+   *
+   * @param rows              this parameter takes the no of rows of the grid
+   * @param columns           this parameter takes the no of columns of the grid
+   * @param wrapping          this parameter takes the wrapping status of the grid
+   * @param interconnectivity this parameter takes the no of extra passages
+   * @throws IllegalArgumentException when there are not enough passages
+   */
+  static void check(int rows, int columns, boolean wrapping, int interconnectivity)
+          throws IllegalArgumentException {
+    //a wrap passage of a single row or column leads back to the same location and is not counted
+    long east = (long) rows * (wrapping && columns > 1 ? columns : columns - 1);
+    long south = (long) columns * (wrapping && rows > 1 ? rows : rows - 1);
+    long closed = east + south - ((long) rows * columns - 1);
+    if (interconnectivity > closed) {
+      throw new IllegalArgumentException("Interconnectivity is wrong");
+    }
+    if (interconnectivity > 0 && closed >= Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Dungeon has too many passages for interconnectivity");
+    }
+  }
+
+  /**
+   * This method offers a passage left closed by the spanning tree.
+   *
+   * @param id        this parameter takes the id of the location the passage starts from
+   * @param direction this parameter takes the direction the passage leaves in
+   */
+  void offer(int id, Direction direction) {
+    if (picked.length == 0) {
+      return;
+    }
+    long passage = 2L * id + (direction == Direction.SOUTH ? 1 : 0);
+    if (offered < picked.length) {
+      picked[offered] = passage;
+    } else {
+      int slot = draws.draw(DungeonDraws.EXTRA_EDGE, offered, 0, 0, offered + 1);
+      if (slot < picked.length) {
+        picked[slot] = passage;
+      }
+    }
+    offered++;
+  }
+
+  /**
+   * This method offers every passage of the topology that is closed, going through the locations
+   * in order.
+   *
+   * @param topology this parameter takes the topology with the spanning tree open
+   */
+  void offerClosed(GridTopology topology) {
+    if (picked.length == 0) {
+      return;
+    }
+    for (int id = 0; id < topology.size(); id++) {
+      for (Direction direction : FORWARD) {
+        int next = topology.adjacent(id, direction);
+        if (next >= 0 && next != id && !topology.hasDoor(id, direction)) {
+          offer(id, direction);
+        }
+      }
+    }
+  }
+
+  /**
+   * This method opens the picked passages in the topology.
+   *
+   * @param topology this parameter takes the topology with the spanning tree open
+   * @throws IllegalStateException when fewer passages were offered than have to be picked
+   */
+  void open(GridTopology topology) throws IllegalStateException {
+    if (offered < picked.length) {
+      throw new IllegalStateException("Only " + offered + " passages were offered");
+    }
+    for (long passage : picked) {
+      topology.open((int) (passage / 2), passage % 2 == 1 ? Direction.SOUTH : Direction.EAST);
+    }
+  }
+}
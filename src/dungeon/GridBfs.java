@@ -0,0 +1,197 @@
+package dungeon;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * This class represents the breadth first search over the passages of a grid topology. The queue,
+ * the distances and the visited marks are int arrays that are kept between searches, and a
+ * location counts as visited only when its stamp matches the number of the current search, so a
+ * new search starts without clearing anything and no state of the locations is touched. Every
+ * location enters the queue at most once, so the queue never wraps and also holds the locations
+ * in the order they were reached. A search can stop at a given distance from the source or at the
+ * first location that matches a check, so a question about the nearby locations only visits
+ * them. One engine is kept per thread, so searches of the same dungeon
+ * can run on different threads at the same time.
+ */
+final class GridBfs {
+
+  private static final ThreadLocal<GridBfs> ENGINE = ThreadLocal.withInitial(GridBfs::new);
+
+  private int[] queue;
+  private int[] distance;
+  private int[] stamp;
+  private int epoch;
+  private int reached;
+
+  private GridBfs() {
+    this.queue = new int[0];
+    this.distance = new int[0];
+    this.stamp = new int[0];
+    this.epoch = 0;
+    this.reached = 0;
+  }
+
+  /**
+   * This method provides the engine of the current thread. The results of a search are only valid
+   * until the next search on the same thread.
+   *
+   * @return the engine of the current thread
+   */
+  static GridBfs get() {
+    return ENGINE.get();
+  }
+
+  /**
+   * This method runs the search from the source location over the whole dungeon.
+   *
+   * @param topology this parameter takes the passages to search
+   * @param src      this parameter takes the id of the source location
+   * @return the number of locations reached, including the source
+   * @throws IllegalArgumentException when the source is not a location of the topology
+   */
+  int run(GridTopology topology, int src) throws IllegalArgumentException {
+    return run(topology, src, Integer.MAX_VALUE);
+  }
+
+  /**
+   * This method runs the search from the source location, without going further than the given
+   * no of moves from it.
+   *
+   * @param topology this parameter takes the passages to search
+   * @param src      this parameter takes the id of the source location
+   * @param radius   this parameter takes the largest distance to reach
+   * @return the number of locations reached, including the source
+   * @throws IllegalArgumentException when the source is not a location of the topology or the
+   *                                  radius is negative
+   */
+  int run(GridTopology topology, int src, int radius) throws IllegalArgumentException {
+    find(topology, src, radius, null);
+    return reached;
+  }
+
+  /**
+   * This method runs the search from the source location, without going further than the given
+   * no of moves from it, and stops at the first location other than the source that matches. The
+   * distances of the locations reached so far stay available.
+   *
+   * @param topology this parameter takes the passages to search
+   * @param src      this parameter takes the id of the source location
+   * @param radius   this parameter takes the largest distance to reach
+   * @param match    this parameter takes the check of a location id, or null to never stop early
+   * @return the id of the first location that matches, or -1 when none does
+   * @throws IllegalArgumentException when the source is not a location of the topology or the
+   *                                  radius is negative
+   */
+  int find(GridTopology topology, int src, int radius, IntPredicate match)
+          throws IllegalArgumentException {
+    if (topology == null) {
+      throw new IllegalArgumentException("Topology cannot be null");
+    }
+    if (src < 0 || src >= topology.size()) {
+      throw new IllegalArgumentException("Source location is not in the dungeon");
+    }
+    if (radius < 0) {
+      throw new IllegalArgumentException("Radius cannot be negative");
+    }
+    nextEpoch(topology.size());
+
+    int head = 0;
+    int tail = 0;
+    stamp[src] = epoch;
+    distance[src] = 0;
+    queue[tail++] = src;
+    while (head < tail) {
+      int current = queue[head++];
+      if (distance[current] == radius) {
+        //the queue is in order of distance, so nothing after this can be expanded either
+        break;
+      }
+      for (Direction direction : Direction.VALUES) {
+        int next = topology.getNeighbor(current, direction);
+        if (next >= 0 && stamp[next] != epoch) {
+          stamp[next] = epoch;
+          distance[next] = distance[current] + 1;
+          queue[tail++] = next;
+          if (match != null && match.test(next)) {
+            reached = tail;
+            return next;
+          }
+        }
+      }
+    }
+    reached = tail;
+    return -1;
+  }
+
+  /**
+   * This method copies the locations reached by the last search, other than the source, into a
+   * new array in the order they were reached.
+   *
+   * @return the location ids in order of distance
+   */
+  int[] copyReached() {
+    return Arrays.copyOfRange(queue, 1, reached);
+  }
+
+  /**
+   * This method provides the distance of the location from the source of the last search.
+   *
+   * @param id this parameter takes the location id
+   * @return the distance, or -1 when the location was not reached
+   */
+  int distance(int id) {
+    return stamp[id] == epoch ? distance[id] : -1;
+  }
+
+  /**
+   * This method provides the number of locations reached by the last search.
+   *
+   * @return the number of locations reached
+   */
+  int reached() {
+    return reached;
+  }
+
+  /**
+   * This method provides the location reached at the given position of the last search, the
+   * source is at position 0 and the distances never decrease with the position.
+   *
+   * @param index this parameter takes the position
+   * @return the location id
+   */
+  int order(int index) {
+    return queue[index];
+  }
+
+  /**
+   * This method copies the distances of the last search into a new array indexed by location id.
+   *
+   * @param size this parameter takes the no of locations of the topology that was searched
+   * @return the distances, with -1 for the locations that were not reached
+   */
+  int[] copyDistances(int size) {
+    int[] level = new int[size];
+    Arrays.fill(level, -1);
+    for (int i = 0; i < reached; i++) {
+      level[queue[i]] = distance[queue[i]];
+    }
+    return level;
+  }
+
+  //grows the arrays when needed and starts a new search number, clearing the stamps only when the
+  //search number runs out
+  private void nextEpoch(int size) {
+    if (queue.length < size) {
+      queue = new int[size];
+      distance = new int[size];
+      stamp = new int[size];
+      epoch = 0;
+    }
+    if (epoch == Integer.MAX_VALUE) {
+      Arrays.fill(stamp, 0);
+      epoch = 0;
+    }
+    epoch++;
+  }
+}
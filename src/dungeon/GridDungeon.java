@@ -0,0 +1,706 @@
+package dungeon;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import randomizer.Randomizer;
+
+/**
+ * The class represents a dungeon laid out as a grid, where the passages and the content of the
+ * locations are kept in primitive arrays indexed by the location id instead of a graph of caves.
+ * The passages are door masks of a grid topology and the treasures, arrows and Otyughs take a few
+ * bytes per location, so dungeons with hundreds of millions of locations fit in memory. Location
+ * objects are only created when the Location API asks for them, as views over the arrays. The
+ * passages and the start and end caves form a read only layout that several dungeons can share,
+ * each of them keeping only the arrays of its own content.
+ */
+public class GridDungeon implements Dungeon {
+
+  //health of an Otyugh is kept as health / 50 + 1, so that 0 means no Otyugh
+  private static final byte NO_MONSTER = 0;
+  private static final int HEALTH_STEP = 50;
+  //the saved content of a changed location, one byte for every treasure type, then the arrows,
+  //the Otyugh and the visit
+  private static final int SAVED_ARROWS = Treasure.values().length;
+  private static final int SAVED_MONSTER = SAVED_ARROWS + 1;
+  private static final int SAVED_VISIT = SAVED_MONSTER + 1;
+  private static final int SAVED_WIDTH = SAVED_VISIT + 1;
+
+  private final DungeonLayout layout;
+  private final GridTopology topology;
+  private final Randomizer randomizer;
+  private final DungeonDraws draws;
+  private final byte[][] treasures;
+  private final byte[] arrows;
+  private final byte[] monsters;
+  private final BitSet visited;
+  private final SmellIndex smell;
+  private final int percent;
+  private final int monsterCount;
+  private final int startCave;
+  private final int endCave;
+  private final BitSet changed;
+  private int[] changedIds;
+  private byte[] saved;
+  private int changeCount;
+  private boolean watching;
+  private PlayerImpl player;
+
+  /**
+   * Constructs a new grid dungeon where the player can move.
+   *
+   * @param rows              this parameter takes the no of rows the dungeon can have
+   * @param columns           this parameter takes the no of columns the dungeon can have
+   * @param interconnectivity this parameter takes the interconnectivity value of the dungeon
+   * @param treasurePercent   this parameter takes the treasure percent of the dungeon
+   * @param wrapping          this parameter takes the wrapping status of the dungeon
+   * @param monsterCount      this parameter takes the number of monsters in the dungeon
+   * @param randomizer        this parameter takes the randomizer
+   * @throws IllegalArgumentException when the values entered are invalid or null
+   */
+  public GridDungeon(int rows, int columns, int interconnectivity, int treasurePercent,
+                     boolean wrapping, int monsterCount, Randomizer randomizer)
+          throws IllegalArgumentException {
+    this(rows, columns, interconnectivity, treasurePercent, wrapping, monsterCount,
+            MazeGenerator.KRUSKAL, randomizer);
+  }
+
+  /**
+   * Constructs a new grid dungeon where the player can move, with the passages laid out by the
+   * maze generator of the given name.
+   *
+   * @param rows              this parameter takes the no of rows the dungeon can have
+   * @param columns           this parameter takes the no of columns the dungeon can have
+   * @param interconnectivity this parameter takes the interconnectivity value of the dungeon
+   * @param treasurePercent   this parameter takes the treasure percent of the dungeon
+   * @param wrapping          this parameter takes the wrapping status of the dungeon
+   * @param monsterCount      this parameter takes the number of monsters in the dungeon
+   * @param generator         this parameter takes the name of the maze generator, one of kruskal,
+   *                          boruvka, eller, wilson and growing-tree
+   * @param randomizer        this parameter takes the randomizer
+   * @throws IllegalArgumentException when the values entered are invalid or null
+   */
+  public GridDungeon(int rows, int columns, int interconnectivity, int treasurePercent,
+                     boolean wrapping, int monsterCount, String generator, Randomizer randomizer)
+          throws IllegalArgumentException {
+    this(Setup.of(rows, columns, interconnectivity, treasurePercent, wrapping, monsterCount,
+            generator, randomizer), monsterCount, randomizer);
+  }
+
+  /**
+   * Constructs a new grid dungeon on an existing layout. The passages, location types and start
+   * and end caves are shared with every other dungeon on the layout, and only the treasures,
+   * arrows, Otyughs and the player are created for this dungeon.
+   *
+   * @param layout          this parameter takes the layout of the dungeon
+   * @param treasurePercent this parameter takes the treasure percent of the dungeon
+   * @param monsterCount    this parameter takes the number of monsters in the dungeon
+   * @param randomizer      this parameter takes the randomizer of the content
+   * @throws IllegalArgumentException when the values entered are invalid or null
+   */
+  public GridDungeon(DungeonLayout layout, int treasurePercent, int monsterCount,
+                     Randomizer randomizer) throws IllegalArgumentException {
+    this(Setup.on(layout, treasurePercent, monsterCount, randomizer), monsterCount, randomizer);
+  }
+
+  private GridDungeon(Setup setup, int monsterCount, Randomizer randomizer) {
+    this.randomizer = randomizer;
+    this.monsterCount = monsterCount;
+    this.draws = setup.draws;
+    this.percent = setup.percent;
+    this.layout = setup.layout;
+    this.topology = layout.getTopology();
+    this.startCave = layout.getStartCave();
+    this.endCave = layout.getEndCave();
+
+    int size = topology.size();
+    this.treasures = new byte[Treasure.values().length][size];
+    this.arrows = new byte[size];
+    this.monsters = new byte[size];
+    this.visited = new BitSet(size);
+    this.smell = new SmellIndex(topology);
+
+    addTreasureToCave();
+    addArrowsToCave();
+    addMonster();
+
+    //the content is complete, so every change from now on is undone by a reset
+    this.changed = new BitSet();
+    this.changedIds = new int[16];
+    this.saved = new byte[16 * SAVED_WIDTH];
+    this.changeCount = 0;
+    this.watching = true;
+    player = new PlayerImpl("John", location(startCave));
+  }
+
+  //the checked parameters and the first random decisions, in the order they are drawn
+  private static final class Setup {
+    private final DungeonDraws draws;
+    private final int percent;
+    private final DungeonLayout layout;
+
+    private Setup(DungeonDraws draws, int percent, DungeonLayout layout) {
+      this.draws = draws;
+      this.percent = percent;
+      this.layout = layout;
+    }
+
+    private static Setup of(int rows, int columns, int interconnectivity, int treasurePercent,
+                            boolean wrapping, int monsterCount, String generator,
+                            Randomizer randomizer) throws IllegalArgumentException {
+      if (rows <= 0) {
+        throw new IllegalArgumentException("No of rows is invalid");
+      }
+      if (columns <= 0) {
+        throw new IllegalArgumentException("No of columns is invalid");
+      }
+      if (interconnectivity < 0) {
+        throw new IllegalArgumentException("Inter connectivity entered is invalid");
+      }
+      check(treasurePercent, monsterCount, randomizer);
+      MazeGenerator maze = MazeGenerator.forName(generator);
+      DungeonDraws draws = DungeonDraws.of(randomizer);
+      int percent = percent(draws, treasurePercent);
+      GridTopology topology = maze.generate(rows, columns, interconnectivity, wrapping,
+              randomizer);
+      return new Setup(draws, percent, DungeonLayout.of(topology, draws));
+    }
+
+    private static Setup on(DungeonLayout layout, int treasurePercent, int monsterCount,
+                            Randomizer randomizer) throws IllegalArgumentException {
+      if (layout == null) {
+        throw new IllegalArgumentException("Layout cannot be null");
+      }
+      check(treasurePercent, monsterCount, randomizer);
+      DungeonDraws draws = DungeonDraws.of(randomizer);
+      return new Setup(draws, percent(draws, treasurePercent), layout);
+    }
+
+    private static void check(int treasurePercent, int monsterCount, Randomizer randomizer)
+            throws IllegalArgumentException {
+      if (monsterCount < 1) {
+        throw new IllegalArgumentException("Monster count should be at least 1");
+      }
+      if (treasurePercent < 0 || treasurePercent > 100) {
+        throw new IllegalArgumentException(
+                "Treasure percent is invalid. Should be between 0-100");
+      }
+      if (randomizer == null) {
+        throw new IllegalArgumentException(
+                "Randomizer entered is null. Enter correct randomizer");
+      }
+    }
+
+    private static int percent(DungeonDraws draws, int treasurePercent) {
+      return treasurePercent + draws.draw(DungeonDraws.PERCENT, 0, 0, 0, 100 - treasurePercent);
+    }
+  }
+
+  //give treasure to cave
+  private void addTreasureToCave() {
+    int[] exclusiveCaveList = layout.copyCaves();
+
+    int noOfCavesWithTreasure = (int) Math.ceil((percent * exclusiveCaveList.length) / 100.0);
+    draws.pick(DungeonDraws.TREASURE_CAVE, exclusiveCaveList, noOfCavesWithTreasure);
+
+    Treasure[] types = Treasure.values();
+    //with keyed decisions every cave is filled on its own, so the caves are filled in parallel
+    ParallelRange.forEach(0, noOfCavesWithTreasure, draws.isKeyed(), i -> {
+      int cave = exclusiveCaveList[i];
+      for (int j = 0; j <= draws.draw(DungeonDraws.TREASURE_COUNT, cave, j, 0,
+              types.length); j++) {
+        addTreasure(cave,
+                types[draws.draw(DungeonDraws.TREASURE_TYPE, cave, j, 0, types.length)
+                        % types.length]);
+      }
+    });
+  }
+
+  //add Arrows to the cave
+  private void addArrowsToCave() {
+    int noOfCavesWithArrows = (int) Math.ceil((percent * topology.size()) / 100.0);
+
+    int[] locationIds = draws.sample(DungeonDraws.ARROW_LOCATION, topology.size(),
+            noOfCavesWithArrows);
+    int[] arrowCounts = new int[noOfCavesWithArrows];
+    draws.fill(DungeonDraws.ARROW_COUNT, locationIds, arrowCounts, 1, 4);
+    ParallelRange.forEach(0, noOfCavesWithArrows, i -> addArrow(locationIds[i], arrowCounts[i]));
+  }
+
+  //add monster to the cave
+  private void addMonster() throws IllegalArgumentException {
+    int[] caveIds = layout.copyCaves();
+
+    if (monsterCount > caveIds.length) {
+      throw new IllegalArgumentException("Monster count is greater than no of caves");
+    }
+
+    addMonster(endCave);
+    //the start and end caves are left out of the random pick
+    int[] caveListCopy = new int[caveIds.length];
+    int count = 0;
+    for (int id : caveIds) {
+      if (id != startCave && id != endCave) {
+        caveListCopy[count++] = id;
+      }
+    }
+    caveListCopy = Arrays.copyOf(caveListCopy, count);
+    if (monsterCount - 1 > caveListCopy.length) {
+      throw new IllegalArgumentException("Monster count is greater than no of caves");
+    }
+
+    draws.pick(DungeonDraws.MONSTER_CAVE, caveListCopy, monsterCount - 1);
+
+    for (int i = 0; i < monsterCount - 1; i++) {
+      addMonster(caveListCopy[i]);
+    }
+  }
+
+  private GridLocation location(int id) {
+    return new GridLocation(this, id);
+  }
+
+  int playerCave() {
+    return player.getCurrentLocation().getId();
+  }
+
+  int getPlayerArrows() {
+    return player.getArrowCount();
+  }
+
+  int countPlayerTreasure(Treasure treasure) {
+    return player.countTreasure(treasure);
+  }
+
+  /**
+   * This method provides the layout of the dungeon, which other dungeons can be played on.
+   *
+   * @return the layout
+   */
+  public DungeonLayout getLayout() {
+    return layout;
+  }
+
+  GridTopology getTopology() {
+    return topology;
+  }
+
+  List<Treasure> getTreasureList(int id) {
+    List<Treasure> treasureList = new ArrayList<>();
+    for (Treasure treasure : Treasure.values()) {
+      for (int i = 0; i < treasures[treasure.ordinal()][id]; i++) {
+        treasureList.add(treasure);
+      }
+    }
+    return treasureList;
+  }
+
+  int countTreasure(int id, Treasure treasure) {
+    return treasures[treasure.ordinal()][id];
+  }
+
+  void addTreasure(int id, Treasure treasure) throws IllegalStateException {
+    remember(id);
+    if (treasures[treasure.ordinal()][id] == Byte.MAX_VALUE) {
+      throw new IllegalStateException("Location cannot hold more " + treasure.getTreasure());
+    }
+    treasures[treasure.ordinal()][id]++;
+  }
+
+  void removeTreasure(int id) {
+    remember(id);
+    for (byte[] treasure : treasures) {
+      treasure[id] = 0;
+    }
+  }
+
+  int getArrow(int id) {
+    return arrows[id];
+  }
+
+  void addArrow(int id, int arrowCount) throws IllegalArgumentException {
+    if (arrowCount < 0 || arrowCount > Byte.MAX_VALUE) {
+      throw new IllegalArgumentException("Arrow count should be between 0-" + Byte.MAX_VALUE);
+    }
+    remember(id);
+    arrows[id] = (byte) arrowCount;
+  }
+
+  boolean hasMonster(int id) {
+    return monsters[id] != NO_MONSTER;
+  }
+
+  int getMonsterHealth(int id) {
+    return (monsters[id] - 1) * HEALTH_STEP;
+  }
+
+  //the smell only changes when an Otyugh comes to life or is killed
+  void addMonster(int id) {
+    remember(id);
+    if (!hasMonster(id) || getMonsterHealth(id) == 0) {
+      smell.addMonster(id);
+    }
+    monsters[id] = (byte) (100 / HEALTH_STEP + 1);
+  }
+
+  void hitMonster(int id) {
+    remember(id);
+    if (getMonsterHealth(id) > 0) {
+      monsters[id]--;
+      if (getMonsterHealth(id) == 0) {
+        smell.removeMonster(id);
+      }
+    }
+  }
+
+  //saves the content of the location the first time it changes after the dungeon was created
+  private void remember(int id) {
+    if (!watching || changed.get(id)) {
+      return;
+    }
+    changed.set(id);
+    if (changeCount == changedIds.length) {
+      changedIds = Arrays.copyOf(changedIds, 2 * changeCount);
+      saved = Arrays.copyOf(saved, 2 * changeCount * SAVED_WIDTH);
+    }
+    changedIds[changeCount] = id;
+    int at = changeCount * SAVED_WIDTH;
+    for (int t = 0; t < treasures.length; t++) {
+      saved[at + t] = treasures[t][id];
+    }
+    saved[at + SAVED_ARROWS] = arrows[id];
+    saved[at + SAVED_MONSTER] = monsters[id];
+    saved[at + SAVED_VISIT] = (byte) (visited.get(id) ? 1 : 0);
+    changeCount++;
+  }
+
+  boolean isVisited(int id) {
+    return visited.get(id);
+  }
+
+  void updateVisit(int id, boolean visit) {
+    remember(id);
+    visited.set(id, visit);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ShotOutcome shoot(int dist, Direction direction) throws IllegalArgumentException {
+    if (direction == null) {
+      throw new IllegalArgumentException("Invalid Direction");
+    }
+
+    if (dist < 1) {
+      throw new IllegalArgumentException("Distance should be at least 1");
+    }
+
+    if (player.getArrowCount() <= 0) {
+      return ShotOutcome.NO_ARROWS;
+    }
+    int currArrowLoc = playerCave();
+
+    while (dist > 0) {
+      int next = topology.getNeighbor(currArrowLoc, direction);
+      if (next < 0) {
+        return ShotOutcome.HIT_WALL;
+      }
+      currArrowLoc = next;
+      if (topology.getLocationType(currArrowLoc) == LocationType.CAVE) {
+        dist--;
+      } else {
+        //the arrow leaves the tunnel through the door it did not come in from
+        for (Direction exit : Direction.VALUES) {
+          if (exit != direction.getOpposite() && topology.hasDoor(currArrowLoc, exit)) {
+            direction = exit;
+            break;
+          }
+        }
+      }
+    }
+
+    player.decreaseArrow();
+    if (hasMonster(currArrowLoc) && getMonsterHealth(currArrowLoc) > 0) {
+      hitMonster(currArrowLoc);
+      if (getMonsterHealth(currArrowLoc) == 50) {
+        return ShotOutcome.INJURED;
+      }
+      return ShotOutcome.KILLED;
+    }
+    return ShotOutcome.MISSED;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SmellType checkSmell() {
+    return smell.getSmell(playerCave());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Map<Location, Integer> bfs(Location src) throws IllegalArgumentException {
+    if (src == null) {
+      throw new IllegalArgumentException("Source location cannot be null");
+    }
+    if (src.getId() >= topology.size()) {
+      throw new IllegalArgumentException("Source location is not in the dungeon");
+    }
+
+    GridBfs search = GridBfs.get();
+    int reached = search.run(topology, src.getId());
+    Map<Location, Integer> locationLevelMap = new HashMap<>();
+    for (int i = 0; i < reached; i++) {
+      int id = search.order(i);
+      locationLevelMap.put(location(id), search.distance(id));
+    }
+    return locationLevelMap;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int[] getDistances(int caveId) throws IllegalArgumentException {
+    GridBfs search = GridBfs.get();
+    search.run(topology, caveId);
+    return search.copyDistances(topology.size());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int[] neighborsWithin(int caveId, int radius) throws IllegalArgumentException {
+    GridBfs search = GridBfs.get();
+    search.run(topology, caveId, radius);
+    return search.copyReached();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public MoveOutcome move(Direction direction) throws IllegalArgumentException {
+    if (direction == null) {
+      throw new IllegalArgumentException("Direction cannot be null");
+    }
+    //the move follows the passages, without building the neighbors of the cave
+    int current = topology.getNeighbor(playerCave(), direction);
+    if (current < 0) {
+      return MoveOutcome.BLOCKED;
+    }
+    player.moveTo(location(current));
+
+    if (!hasMonster(current)) {
+      return MoveOutcome.MOVED;
+    }
+    int escape = randomizer.getNextInt(0, 2);
+    int health = getMonsterHealth(current);
+    if (health == 100 || (health == 50 && escape % 2 == 1)) {
+      player.killPlayer();
+      return MoveOutcome.EATEN;
+    }
+    return health == 50 ? MoveOutcome.ESCAPED : MoveOutcome.MOVED;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void reset() {
+    for (int i = 0; i < changeCount; i++) {
+      int id = changedIds[i];
+      int at = i * SAVED_WIDTH;
+      boolean smelled = hasMonster(id) && getMonsterHealth(id) > 0;
+      for (int t = 0; t < treasures.length; t++) {
+        treasures[t][id] = saved[at + t];
+      }
+      arrows[id] = saved[at + SAVED_ARROWS];
+      monsters[id] = saved[at + SAVED_MONSTER];
+      visited.set(id, saved[at + SAVED_VISIT] == 1);
+      boolean smells = hasMonster(id) && getMonsterHealth(id) > 0;
+      if (smells && !smelled) {
+        smell.addMonster(id);
+      } else if (smelled && !smells) {
+        smell.removeMonster(id);
+      }
+      changed.clear(id);
+    }
+    changeCount = 0;
+    player = new PlayerImpl("John", location(startCave));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < topology.size(); i++) {
+      sb.append("\n" + topology.getLocationType(i) + ": " + i);
+      for (Direction direction : Direction.values()) {
+        int neighbor = topology.getNeighbor(i, direction);
+        if (neighbor >= 0) {
+          sb.append("\n-->" + direction + " Neighbor: " + topology.getLocationType(neighbor)
+                  + ": " + neighbor);
+        }
+      }
+      if (hasMonster(i)) {
+        sb.append("\n###Monster###");
+      }
+      if (getArrow(i) > 0) {
+        sb.append("\nArrow Count: " + getArrow(i));
+      }
+      sb.append("\n");
+    }
+    return sb.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int takeTreasure() {
+    int id = playerCave();
+    int count = 0;
+    for (byte[] treasure : treasures) {
+      count += treasure[id];
+    }
+    if (count > 0) {
+      player.updateTreasureList();
+    }
+    return count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int takeArrows() {
+    int count = getArrow(playerCave());
+    if (count > 0) {
+      player.pickUpArrow();
+    }
+    return count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getPlayerLocationId() {
+    return playerCave();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getPlayerArrowCount() {
+    return player.getArrowCount();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isPlayerAlive() {
+    return player.isAlive();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean hasReachedEnd() {
+    return playerCave() == endCave;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getNextPossibleDescription() {
+    StringBuilder stringBuilder = new StringBuilder();
+
+    stringBuilder.append("\nNext possible moves: ");
+    for (Direction direction : Direction.values()) {
+      if (topology.hasDoor(playerCave(), direction)) {
+        stringBuilder.append("\n" + direction.getDirection());
+      }
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getLocationDescription() {
+    return player.getCurrentLocation().toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getPlayerDescription() {
+    return player.toString();
+  }
+
+  /**
+   * {@inheritDoc}
+   * The locations are created when they are read from the list.
+   */
+  @Override
+  public List<Location> getLocationList() {
+    return new AbstractList<Location>() {
+      @Override
+      public Location get(int index) {
+        if (index < 0 || index >= topology.size()) {
+          throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return location(index);
+      }
+
+      @Override
+      public int size() {
+        return topology.size();
+      }
+    };
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Player getPlayer() {
+    return new PlayerImpl(this.player);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Location getEndCave() {
+    return new Cave(location(endCave));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Location getStartCave() {
+    return new Cave(location(startCave));
+  }
+}
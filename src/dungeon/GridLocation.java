@@ -0,0 +1,232 @@
+package dungeon;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class represents a location of a grid dungeon. It holds no state of its own, every call is
+ * answered from the arrays of the dungeon, so a location can be created whenever it is asked for
+ * and two locations with the same id in the same dungeon are equal. The passages of a grid dungeon
+ * are fixed when it is created, so the neighbors and the type of a location cannot be changed.
+ */
+final class GridLocation implements Location {
+
+  private final GridDungeon dungeon;
+  private final int id;
+
+  /**
+   * Constructs a view of a location of the grid dungeon.
+   *
+   * @param dungeon this parameter takes the dungeon the location belongs to
+   * @param id      this parameter takes the id of the location
+   */
+  GridLocation(GridDungeon dungeon, int id) {
+    this.dungeon = dungeon;
+    this.id = id;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addNeighbors(Direction direction, Location location)
+          throws IllegalArgumentException, IllegalStateException {
+    if (direction == null) {
+      throw new IllegalArgumentException("Direction cannot be null");
+    }
+    if (location == null) {
+      throw new IllegalArgumentException("Location cannot be null");
+    }
+    throw new IllegalStateException("Neighbors of a grid dungeon location cannot be changed");
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Map<Direction, Location> getNeighbors() {
+    Map<Direction, Location> neighbors = new HashMap<Direction, Location>();
+    for (Direction direction : Direction.VALUES) {
+      int neighbor = dungeon.getTopology().getNeighbor(id, direction);
+      if (neighbor >= 0) {
+        neighbors.put(direction, new GridLocation(dungeon, neighbor));
+      }
+    }
+    return neighbors;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addTreasureList(Treasure treasure) throws IllegalArgumentException {
+    if (treasure == null) {
+      throw new IllegalArgumentException("Treasure argument is invalid");
+    }
+    dungeon.addTreasure(id, treasure);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<Treasure> getTreasureList() {
+    return dungeon.getTreasureList(id);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public LocationType getLocationType() {
+    return dungeon.getTopology().getLocationType(id);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setLocationType(LocationType locationType)
+          throws IllegalArgumentException, IllegalStateException {
+    if (locationType == null) {
+      throw new IllegalArgumentException("Location Type argument is invalid");
+    }
+    if (locationType != getLocationType()) {
+      throw new IllegalStateException("Type of a grid dungeon location comes from its doors");
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void updateVisit(boolean visit) {
+    dungeon.updateVisit(id, visit);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isVisited() {
+    return dungeon.isVisited(id);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void removeTreasure() {
+    dungeon.removeTreasure(id);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getArrow() {
+    return dungeon.getArrow(id);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addArrow(int arrowCount) {
+    dungeon.addArrow(id, arrowCount);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void removeArrow() {
+    dungeon.addArrow(id, 0);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void addMonster() {
+    dungeon.addMonster(id);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Creature getMonster() {
+    if (hasMonster()) {
+      return new Monster(dungeon.getMonsterHealth(id));
+    }
+    return null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void hitMonster() {
+    dungeon.hitMonster(id);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean hasMonster() {
+    return dungeon.hasMonster(id);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof GridLocation)) {
+      return false;
+    }
+    GridLocation that = (GridLocation) o;
+    return this.dungeon == that.dungeon && this.id == that.id;
+  }
+
+  @Override
+  public int hashCode() {
+    return id;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    List<Treasure> treasureList = getTreasureList();
+    if (treasureList.size() > 0) {
+      sb.append("\nCave has following treasures -");
+      for (int i = 0; i < treasureList.size(); i++) {
+        sb.append("\n" + treasureList.get(i).getTreasure());
+      }
+    } else {
+      sb.append("\nThe cave has no treasures");
+    }
+
+    int arrow = getArrow();
+    if (arrow > 0) {
+      sb.append("\nThere are " + arrow + " arrows in the current location");
+    } else {
+      sb.append("\nThere are no arrows at the current location");
+    }
+    return sb.toString();
+  }
+}
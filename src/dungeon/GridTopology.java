@@ -0,0 +1,170 @@
+package dungeon;
+
+/**
+ * This class represents the passages of a dungeon laid out as a grid of rows and columns. The
+ * open doors of every location are kept as a 4-bit mask in a byte array indexed by the location
+ * id, and the id of a neighbor is computed from the row and column of the location, wrapping
+ * around the edges of the grid for a wrapping dungeon. A location with exactly two doors is a
+ * tunnel, every other location is a cave.
+ */
+public final class GridTopology {
+
+  private final int rows;
+  private final int columns;
+  private final boolean wrapping;
+  private final byte[] doors;
+
+  /**
+   * Constructs a grid where all the doors are closed.
+   *
+   * @param rows     this parameter takes the no of rows of the grid
+   * @param columns  this parameter takes the no of columns of the grid
+   * @param wrapping this parameter takes the wrapping status of the grid
+   * @throws IllegalArgumentException when the no of rows or columns is invalid
+   */
+  GridTopology(int rows, int columns, boolean wrapping) throws IllegalArgumentException {
+    if (rows <= 0) {
+      throw new IllegalArgumentException("No of rows is invalid");
+    }
+    if (columns <= 0) {
+      throw new IllegalArgumentException("No of columns is invalid");
+    }
+    if ((long) rows * columns > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Dungeon has too many locations");
+    }
+    this.rows = rows;
+    this.columns = columns;
+    this.wrapping = wrapping;
+    this.doors = new byte[rows * columns];
+  }
+
+  /**
+   * This method provides the bit of the given direction in a door mask.
+   *
+   * @param direction this parameter takes the direction
+   * @return the bit of the direction
+   */
+  public static int mask(Direction direction) {
+    return 1 << direction.ordinal();
+  }
+
+  //opens the passage of an edge, edges always go from the lower id and a wrap edge goes from the
+  //first to the last row or column
+  void connect(int src, int dest, boolean wrap) {
+    if (src == dest) {
+      return;
+    }
+    Direction direction;
+    if (src / columns == dest / columns) {
+      direction = wrap ? Direction.WEST : Direction.EAST;
+    } else {
+      direction = wrap ? Direction.NORTH : Direction.SOUTH;
+    }
+    doors[src] |= mask(direction);
+    doors[dest] |= mask(direction.getOpposite());
+  }
+
+  //opens the passage from the location through the door in the given direction, the neighbor must
+  //be a location of the grid
+  void open(int id, Direction direction) {
+    doors[id] |= mask(direction);
+    doors[adjacent(id, direction)] |= mask(direction.getOpposite());
+  }
+
+  /**
+   * This method provides the id of the location next to the given one in the given direction,
+   * whether the door between them is open or not.
+   *
+   * @param id        this parameter takes the location id
+   * @param direction this parameter takes the direction
+   * @return the id of the location next to it, or -1 when the location is at the border of a grid
+   *         that does not wrap
+   */
+  public int adjacent(int id, Direction direction) {
+    int col = id % columns;
+    switch (direction) {
+      case NORTH:
+        return id >= columns ? id - columns : wrapping ? id + (rows - 1) * columns : -1;
+      case SOUTH:
+        return id + columns < doors.length ? id + columns
+                : wrapping ? id - (rows - 1) * columns : -1;
+      case EAST:
+        return col < columns - 1 ? id + 1 : wrapping ? id - (columns - 1) : -1;
+      default:
+        return col > 0 ? id - 1 : wrapping ? id + columns - 1 : -1;
+    }
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  public int getColumns() {
+    return columns;
+  }
+
+  public boolean isWrapping() {
+    return wrapping;
+  }
+
+  /**
+   * This method provides the number of locations in the grid.
+   *
+   * @return the number of locations
+   */
+  public int size() {
+    return doors.length;
+  }
+
+  /**
+   * This method provides the open doors of the location as a mask of direction bits.
+   *
+   * @param id this parameter takes the location id
+   * @return the door mask of the location
+   */
+  public int getDoors(int id) {
+    return doors[id];
+  }
+
+  /**
+   * This method checks if the location has an open door in the given direction.
+   *
+   * @param id        this parameter takes the location id
+   * @param direction this parameter takes the direction
+   * @return true if there is a passage in the direction
+   */
+  public boolean hasDoor(int id, Direction direction) {
+    return (doors[id] & mask(direction)) != 0;
+  }
+
+  /**
+   * This method provides the number of open doors of the location.
+   *
+   * @param id this parameter takes the location id
+   * @return the number of doors
+   */
+  public int countDoors(int id) {
+    return Integer.bitCount(doors[id]);
+  }
+
+  /**
+   * This method provides the type of the location, tunnels have exactly two doors.
+   *
+   * @param id this parameter takes the location id
+   * @return the location type
+   */
+  public LocationType getLocationType(int id) {
+    return countDoors(id) == 2 ? LocationType.TUNNEL : LocationType.CAVE;
+  }
+
+  /**
+   * This method provides the id of the location reached through the door in the given direction.
+   *
+   * @param id        this parameter takes the location id
+   * @param direction this parameter takes the direction
+   * @return the id of the neighbor, or -1 when the door in that direction is closed
+   */
+  public int getNeighbor(int id, Direction direction) {
+    return hasDoor(id, direction) ? adjacent(id, direction) : -1;
+  }
+}
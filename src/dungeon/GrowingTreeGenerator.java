@@ -0,0 +1,69 @@
+package dungeon;
+
+import java.util.BitSet;
+
+import randomizer.Randomizer;
+
+/**
+ * This class represents the Growing Tree Algorithm. The maze grows from one random location, and
+ * the locations that may still have a neighbor outside the maze are kept in a list. Every step
+ * takes either the newest location of the list or a random one, with the same chance, and opens a
+ * passage to a random neighbor outside the maze, or drops the location from the list when it has
+ * none. Taking the newest location gives long winding passages and taking a random one gives
+ * short branches, so the maze is a mix of both.
+ */
+class GrowingTreeGenerator implements MazeGenerator {
+
+  @Override
+  public GridTopology generate(int rows, int columns, int interconnectivity, boolean wrapping,
+                               Randomizer randomizer) throws IllegalArgumentException {
+    ExtraPassages.check(rows, columns, wrapping, interconnectivity);
+    GridTopology topology = new GridTopology(rows, columns, wrapping);
+    DungeonDraws draws = DungeonDraws.of(randomizer);
+    int size = topology.size();
+
+    BitSet inMaze = new BitSet(size);
+    int[] growing = new int[size];
+    Direction[] directions = Direction.VALUES;
+    Direction[] outside = new Direction[directions.length];
+    int first = draws.choose(DungeonDraws.MAZE_STEP, 0, 0, size);
+    inMaze.set(first);
+    growing[0] = first;
+    int count = 1;
+    long step = 1;
+
+    while (count > 0) {
+      //a step makes up to three decisions, a location is added and dropped once, so the steps
+      //stay below twice the no of locations
+      int key = (int) step;
+      int round = 3 * (int) (step >>> 32);
+      int index = draws.choose(DungeonDraws.MAZE_STEP, key, round, 2) == 0 ? count - 1
+              : draws.choose(DungeonDraws.MAZE_STEP, key, round + 1, count);
+      int current = growing[index];
+      int choices = 0;
+      for (Direction direction : directions) {
+        int next = topology.adjacent(current, direction);
+        if (next >= 0 && !inMaze.get(next)) {
+          outside[choices++] = direction;
+        }
+      }
+
+      if (choices == 0) {
+        growing[index] = growing[--count];
+      } else {
+        Direction direction = outside[choices == 1 ? 0
+                : draws.choose(DungeonDraws.MAZE_STEP, key, round + 2, choices)];
+        int next = topology.adjacent(current, direction);
+        topology.open(current, direction);
+        inMaze.set(next);
+        growing[count++] = next;
+      }
+      step++;
+    }
+
+    ExtraPassages extra = new ExtraPassages(draws, interconnectivity);
+    extra.offerClosed(topology);
+    extra.open(topology);
+    return topology;
+  }
+}
@@ -0,0 +1,102 @@
+package dungeon;
+
+import java.util.Arrays;
+
+import randomizer.KeyedRandomizer;
+
+/**
+ * This class represents the decisions of a dungeon worked out from a keyed randomizer. Every
+ * decision depends only on its phase, key and index, and a pick orders the ids by a random
+ * priority of each id, so the outcome does not depend on the order the decisions are made in, and
+ * the decisions of a large dungeon are worked out in parallel.
+ */
+final class KeyedDraws implements DungeonDraws {
+
+  //ids take the low 31 bits of a packed priority, the random priority the bits above them
+  private static final long ID_MASK = 0x7FFFFFFFL;
+
+  private final KeyedRandomizer randomizer;
+
+  /**
+   * Constructs the decisions worked out from the given randomizer.
+   *
+   * @param randomizer this parameter takes the randomizer
+   */
+  KeyedDraws(KeyedRandomizer randomizer) {
+    this.randomizer = randomizer;
+  }
+
+  @Override
+  public boolean isKeyed() {
+    return true;
+  }
+
+  @Override
+  public int draw(int phase, int key, int index, int min, int max) {
+    return randomizer.getInt(phase, key, index, min, max);
+  }
+
+  @Override
+  public void fill(int phase, int[] keys, int[] dst, int min, int max) {
+    if (dst == null) {
+      throw new IllegalArgumentException("Array cannot be null");
+    }
+    ParallelRange.forEach(0, dst.length, i ->
+            dst[i] = randomizer.getInt(phase, keys == null ? i : keys[i], 0, min, max));
+  }
+
+  @Override
+  public void pick(int phase, int[] ids, int k) {
+    if (ids == null) {
+      throw new IllegalArgumentException("Values cannot be null");
+    }
+    if (k < 0 || k > ids.length) {
+      throw new IllegalArgumentException("Sample size should be between 0-" + ids.length);
+    }
+    long[] priority = new long[ids.length];
+    ParallelRange.forEach(0, ids.length, i ->
+            priority[i] = (randomizer.getBits(phase, ids[i], 0) >>> 1) & ~ID_MASK | ids[i]);
+
+    //the priorities are spread evenly, so only the ones below a bound a little above the k-th
+    //priority are sorted, and the bound is raised in the rare case it holds fewer than k
+    double expected = k + 4 * Math.sqrt(k) + 16;
+    long bound;
+    int count;
+    do {
+      bound = expected >= ids.length ? Long.MAX_VALUE
+              : (long) Math.scalb(expected / ids.length, Long.SIZE - 1);
+      count = 0;
+      for (long p : priority) {
+        if (p < bound) {
+          count++;
+        }
+      }
+      expected *= 2;
+    } while (count < k);
+
+    long[] lowest = new long[count];
+    int low = 0;
+    int high = count;
+    for (long p : priority) {
+      if (p < bound) {
+        lowest[low++] = p;
+      } else {
+        ids[high++] = (int) (p & ID_MASK);
+      }
+    }
+    //every priority holds a different id, so the order does not depend on how the sort is split
+    Arrays.parallelSort(lowest);
+    ParallelRange.forEach(0, count, i -> ids[i] = (int) (lowest[i] & ID_MASK));
+  }
+
+  @Override
+  public int[] sample(int phase, int n, int k) {
+    if (n < 0) {
+      throw new IllegalArgumentException("No of values cannot be negative");
+    }
+    int[] ids = new int[n];
+    ParallelRange.forEach(0, n, i -> ids[i] = i);
+    pick(phase, ids, k);
+    return Arrays.copyOf(ids, k);
+  }
+}
@@ -1,57 +1,36 @@
 package dungeon;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.BitSet;
 
 /**
- * This class represents the Kruskal Algorithm which is used to build the dungeon.
+ * This class represents the Kruskal Algorithm which is used to build the dungeon. The edge weights
+ * of the dungeon are small integers, so the edges are ordered by putting them in one bucket per
+ * weight in linear time instead of sorting them, and the buckets are fed to the algorithm from the
+ * lightest to the heaviest until the spanning tree is complete. The edges of the tree are marked
+ * in a bit set by their index in the ordered edges.
  */
-class KruskalAlgo {
+class KruskalAlgo implements SpanningTreeBuilder {
 
-  private Map<Integer, Integer> parent;
-
-  private void makeSet(int n) {
-    parent = new HashMap<Integer, Integer>();
-    for (int i = 0; i < n; i++) {
-      parent.put(i, i);
-    }
-  }
-
-  private int find(int k) {
-    if (parent.get(k) == k) {
-      return k;
-    }
-    return find(parent.get(k));
-  }
-
-  private void union(int a, int b) {
-    int x = find(a);
-    int y = find(b);
-    parent.put(x, y);
+  @Override
+  public BitSet build(EdgeStore edges, int n) {
+    return kruskalAlgo(edges, n);
   }
 
-  public List<Edge> kruskalAlgo(List<Edge> edges, int n) {
-    List<Edge> mst = new ArrayList<Edge>();
-    KruskalAlgo ds = new KruskalAlgo();
-    ds.makeSet(n);
-
-    int index = 0;
-    Collections.sort(edges, Comparator.comparingInt(e -> e.getWeight()));
+  public BitSet kruskalAlgo(EdgeStore edges, int n) {
+    BitSet mst = new BitSet(edges.size());
+    int treeSize = 0;
+    DisjointSet ds = new DisjointSet(n);
 
-    while (mst.size() != n - 1) {
-      Edge nextEdge = edges.get(index++);
-      int x = ds.find(nextEdge.getSrc());
-      int y = ds.find(nextEdge.getDest());
+    int[] bucketStart = edges.sortByWeight();
 
-      if (x != y) {
-        mst.add(nextEdge);
-        ds.union(x, y);
+    for (int b = 0; b + 1 < bucketStart.length && treeSize < n - 1; b++) {
+      for (int index = bucketStart[b]; index < bucketStart[b + 1] && treeSize < n - 1; index++) {
+        if (ds.union(edges.getSrc(index), edges.getDest(index))) {
+          mst.set(index);
+          treeSize++;
+        }
       }
     }
-    return new ArrayList<Edge>(mst);
+    return mst;
   }
 }
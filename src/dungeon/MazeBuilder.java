@@ -0,0 +1,135 @@
+package dungeon;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import randomizer.Randomizer;
+
+/**
+ * This class represents the builder of the passages of a dungeon. It creates an edge with a random
+ * weight between every pair of adjacent locations, keeps the edges of the minimum spanning tree,
+ * opens the given number of extra edges picked at random, and provides the
+ * opened passages as a grid topology.
+ */
+class MazeBuilder {
+
+  private final int rows;
+  private final int columns;
+  private final int interconnectivity;
+  private final boolean wrapping;
+  private final DungeonDraws draws;
+  private final SpanningTreeBuilder treeBuilder;
+
+  /**
+   * Constructs a builder of the passages of a dungeon.
+   *
+   * @param rows              this parameter takes the no of rows the dungeon can have
+   * @param columns           this parameter takes the no of columns the dungeon can have
+   * @param interconnectivity this parameter takes the interconnectivity value of the dungeon
+   * @param wrapping          this parameter takes the wrapping status of the dungeon
+   * @param randomizer        this parameter takes the randomizer
+   */
+  public MazeBuilder(int rows, int columns, int interconnectivity, boolean wrapping,
+                     Randomizer randomizer) {
+    this(rows, columns, interconnectivity, wrapping, randomizer, new KruskalAlgo());
+  }
+
+  /**
+   * Constructs a builder of the passages of a dungeon that finds the spanning tree with the given
+   * algorithm.
+   *
+   * @param rows              this parameter takes the no of rows the dungeon can have
+   * @param columns           this parameter takes the no of columns the dungeon can have
+   * @param interconnectivity this parameter takes the interconnectivity value of the dungeon
+   * @param wrapping          this parameter takes the wrapping status of the dungeon
+   * @param randomizer        this parameter takes the randomizer
+   * @param treeBuilder       this parameter takes the spanning tree algorithm
+   */
+  MazeBuilder(int rows, int columns, int interconnectivity, boolean wrapping,
+              Randomizer randomizer, SpanningTreeBuilder treeBuilder) {
+    this.treeBuilder = treeBuilder;
+    this.rows = rows;
+    this.columns = columns;
+    this.interconnectivity = interconnectivity;
+    this.wrapping = wrapping;
+    this.draws = DungeonDraws.of(randomizer);
+  }
+
+  /**
+   * This method builds the passages of the dungeon.
+   *
+   * @return the grid topology with the open passages
+   * @throws IllegalArgumentException when the interconnectivity is larger than the no of edges
+   *                                  left after the spanning tree
+   */
+  public GridTopology build() throws IllegalArgumentException {
+    GridTopology topology = new GridTopology(rows, columns, wrapping);
+    EdgeStore edges = createMaze();
+    BitSet mazeEdges = treeBuilder.build(edges, rows * columns);
+    createMazeList(edges, mazeEdges);
+
+    for (int i = mazeEdges.nextSetBit(0); i >= 0; i = mazeEdges.nextSetBit(i + 1)) {
+      topology.connect(edges.getSrc(i), edges.getDest(i), edges.isWrap(i));
+    }
+    return topology;
+  }
+
+  //edges of the rows come first, then the edges of the columns and then the wrap edges, every
+  //edge is written at its own index so the edges are created in parallel
+  private EdgeStore createMaze() {
+    int rowEdges = rows * (columns - 1);
+    int gridEdges = rowEdges + (rows - 1) * columns;
+    int wrapEdges = wrapping ? rows + columns : 0;
+    EdgeStore edges = new EdgeStore(gridEdges + wrapEdges);
+    edges.extend(gridEdges + wrapEdges);
+
+    //the weights are drawn in the same order the edges are created
+    int[] weights = new int[gridEdges];
+    draws.fill(DungeonDraws.EDGE_WEIGHT, null, weights, 1, 10);
+    int[] wrapWeights = new int[wrapEdges];
+    if (wrapping) {
+      draws.fill(DungeonDraws.WRAP_WEIGHT, null, wrapWeights, 0, 10);
+    }
+
+    ParallelRange.forEach(0, gridEdges + wrapEdges, index -> {
+      if (index < rowEdges) {
+        //create edges for rows
+        int src = index / (columns - 1) * columns + index % (columns - 1);
+        edges.set(index, src, src + 1, weights[index], false);
+      } else if (index < gridEdges) {
+        //create edges for columns
+        int src = index - rowEdges;
+        edges.set(index, src, src + columns, weights[index], false);
+      } else if (index < gridEdges + rows) {
+        int row = index - gridEdges;
+        edges.set(index, row * columns, row * columns + columns - 1,
+                wrapWeights[index - gridEdges], true);
+      } else {
+        int column = index - gridEdges - rows;
+        edges.set(index, column, (rows - 1) * columns + column,
+                wrapWeights[index - gridEdges], true);
+      }
+    });
+    return edges;
+  }
+
+  private void createMazeList(EdgeStore edges, BitSet mazeEdges) {
+    int[] extraEdges = new int[edges.size() - mazeEdges.cardinality()];
+    int count = 0;
+    for (int i = mazeEdges.nextClearBit(0); i < edges.size(); i = mazeEdges.nextClearBit(i + 1)) {
+      //a wrap edge of a single row or column dungeon leads back to the same location
+      if (edges.getSrc(i) != edges.getDest(i)) {
+        extraEdges[count++] = i;
+      }
+    }
+    extraEdges = Arrays.copyOf(extraEdges, count);
+
+    if (interconnectivity > extraEdges.length) {
+      throw new IllegalArgumentException("Interconnectivity is wrong");
+    }
+    draws.pick(DungeonDraws.EXTRA_EDGE, extraEdges, interconnectivity);
+    for (int i = 0; i < interconnectivity; i++) {
+      mazeEdges.set(extraEdges[i]);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package dungeon;
+
+import randomizer.Randomizer;
+
+/**
+ * This interface represents an algorithm that lays out the passages of a dungeon. Every algorithm
+ * opens the passages of a spanning tree of the grid, so every location can be reached from every
+ * other one, and then opens the given no of extra passages picked at random among the closed
+ * ones. The algorithms differ in the look of the maze and in the memory they need on the way.
+ */
+interface MazeGenerator {
+
+  /**
+   * The name of the algorithm that finds the minimum spanning tree of random edge weights.
+   */
+  String KRUSKAL = "kruskal";
+
+  /**
+   * The name of the algorithm that finds the same spanning tree as the kruskal one, with the
+   * Boruvka Algorithm on the threads of the fork/join pool it runs in.
+   */
+  String BORUVKA = "boruvka";
+
+  /**
+   * The name of the algorithm that builds the maze one row at a time.
+   */
+  String ELLER = "eller";
+
+  /**
+   * The name of the algorithm that joins loop erased random walks.
+   */
+  String WILSON = "wilson";
+
+  /**
+   * The name of the algorithm that grows the maze from a random location.
+   */
+  String GROWING_TREE = "growing-tree";
+
+  /**
+   * This method provides the algorithm with the given name.
+   *
+   * @param name this parameter takes the name of the algorithm, one of kruskal, boruvka, eller,
+   *             wilson and growing-tree
+   * @return the algorithm
+   * @throws IllegalArgumentException when there is no algorithm with that name
+   */
+  static MazeGenerator forName(String name) throws IllegalArgumentException {
+    if (name == null) {
+      throw new IllegalArgumentException("Maze generator cannot be null");
+    }
+    switch (name) {
+      case KRUSKAL:
+        return (rows, columns, interconnectivity, wrapping, randomizer)
+                -> new MazeBuilder(rows, columns, interconnectivity, wrapping, randomizer).build();
+      case BORUVKA:
+        return (rows, columns, interconnectivity, wrapping, randomizer)
+                -> new MazeBuilder(rows, columns, interconnectivity, wrapping, randomizer,
+                new BoruvkaAlgo()).build();
+      case ELLER:
+        return new EllerGenerator();
+      case WILSON:
+        return new WilsonGenerator();
+      case GROWING_TREE:
+        return new GrowingTreeGenerator();
+      default:
+        throw new IllegalArgumentException("Maze generator is unknown: " + name);
+    }
+  }
+
+  /**
+   * This method lays out the passages of a dungeon.
+   *
+   * @param rows              this parameter takes the no of rows of the dungeon
+   * @param columns           this parameter takes the no of columns of the dungeon
+   * @param interconnectivity this parameter takes the no of extra passages
+   * @param wrapping          this parameter takes the wrapping status of the dungeon
+   * @param randomizer        this parameter takes the randomizer
+   * @return the grid topology with the open passages
+   * @throws IllegalArgumentException when the interconnectivity is larger than the no of
+   *                                  passages left after the spanning tree
+   */
+  GridTopology generate(int rows, int columns, int interconnectivity, boolean wrapping,
+                        Randomizer randomizer) throws IllegalArgumentException;
+}
@@ -14,6 +14,19 @@ public class Monster implements Creature {
     this.health = 100;
   }
 
+  /**
+   * Constructs an Otyugh with the given health.
+   *
+   * @param health this parameter takes the health of the Otyugh
+   * @throws IllegalArgumentException when the health is not between 0-100
+   */
+  Monster(int health) throws IllegalArgumentException {
+    if (health < 0 || health > 100) {
+      throw new IllegalArgumentException("Health should be between 0-100");
+    }
+    this.health = health;
+  }
+
   /**
    * This is a copy constructor for Otyugh.
    *
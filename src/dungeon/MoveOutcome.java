@@ -0,0 +1,9 @@
+package dungeon;
+
+/**
+ * This is an enumeration for the outcomes of a move of the player, for the callers that play the
+ * game without showing it as text.
+ */
+public enum MoveOutcome {
+  BLOCKED, MOVED, ESCAPED, EATEN;
+}
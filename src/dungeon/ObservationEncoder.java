@@ -0,0 +1,177 @@
+package dungeon;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class represents the view of the player of a grid dungeon written as numbers, for
+ * strategies and learning agents that would otherwise read it out of the descriptions of the
+ * dungeon. An observation is a fixed no of ints, at the positions given by the constants of this
+ * class: the location of the player, its doors, the smell, the arrows and treasures of the player,
+ * the treasures, arrows, type and Otyugh of the location, and optionally a square patch of the
+ * grid around the player. The observation is written into an array or a buffer the caller gives,
+ * and nothing is created while it is written.
+ */
+public final class ObservationEncoder {
+
+  //values() copies the array on every call, so the types are kept once
+  private static final Treasure[] TYPES = Treasure.values();
+  private static final int TREASURES = TYPES.length;
+
+  public static final int LOCATION = 0;
+  public static final int DOORS = 1;
+
+  /**
+   * The smell at the location, 0 for none, 1 for low and 2 for high.
+   */
+  public static final int SMELL = 2;
+  public static final int ARROWS = 3;
+
+  /**
+   * The no of treasures of every type the player has, the type at this position plus its ordinal.
+   */
+  public static final int PLAYER_TREASURE = 4;
+
+  /**
+   * The no of treasures of every type at the location, the type at this position plus its ordinal.
+   */
+  public static final int LOCATION_TREASURE = PLAYER_TREASURE + TREASURES;
+  public static final int LOCATION_ARROWS = LOCATION_TREASURE + TREASURES;
+
+  /**
+   * The type of the location, 0 for a cave and 1 for a tunnel.
+   */
+  public static final int LOCATION_TYPE = LOCATION_ARROWS + 1;
+
+  /**
+   * The health of the Otyugh at the location, 0 when there is none or it is dead.
+   */
+  public static final int LOCATION_MONSTER = LOCATION_TYPE + 1;
+
+  /**
+   * The patch around the player starts at this position, one int for every location of the
+   * square row by row from its north west corner: the door mask of the location, with
+   * {@link #VISITED} added when the location has been visited, or -1 outside a grid that does
+   * not wrap.
+   */
+  public static final int PATCH = LOCATION_MONSTER + 1;
+  public static final int VISITED = 1 << 4;
+
+  private final int radius;
+  private final int side;
+  private final int size;
+
+  /**
+   * Constructs an encoder.
+   *
+   * @param radius this parameter takes the no of locations the patch reaches from the player in
+   *               every direction, 0 for no patch
+   * @throws IllegalArgumentException when the radius is negative
+   */
+  public ObservationEncoder(int radius) throws IllegalArgumentException {
+    if (radius < 0) {
+      throw new IllegalArgumentException("Radius cannot be negative");
+    }
+    this.radius = radius;
+    this.side = radius == 0 ? 0 : 2 * radius + 1;
+    this.size = PATCH + side * side;
+  }
+
+  /**
+   * This method provides the no of ints of an observation.
+   *
+   * @return the size of an observation
+   */
+  public int size() {
+    return size;
+  }
+
+  public int getRadius() {
+    return radius;
+  }
+
+  /**
+   * This method writes the observation of the dungeon into the array.
+   *
+   * @param dungeon this parameter takes the dungeon
+   * @param dst     this parameter takes the array the observation is written into
+   * @param offset  this parameter takes the position of the first int of the observation
+   * @return the position after the last int of the observation
+   * @throws IllegalArgumentException when the dungeon or the array is null or the array is too
+   *                                  short
+   */
+  public int encode(GridDungeon dungeon, int[] dst, int offset) throws IllegalArgumentException {
+    if (dungeon == null) {
+      throw new IllegalArgumentException("Dungeon cannot be null");
+    }
+    if (dst == null || offset < 0 || offset > dst.length - size) {
+      throw new IllegalArgumentException("Observation needs " + size + " ints");
+    }
+    int cave = dungeon.playerCave();
+    for (int i = 0; i < size; i++) {
+      dst[offset + i] = value(dungeon, cave, i);
+    }
+    return offset + size;
+  }
+
+  /**
+   * This method writes the observation of the dungeon into the buffer as ints, from its position
+   * on, and moves the position past the observation.
+   *
+   * @param dungeon this parameter takes the dungeon
+   * @param dst     this parameter takes the buffer the observation is written into
+   * @throws IllegalArgumentException when the dungeon or the buffer is null or the buffer has too
+   *                                  little room
+   */
+  public void encode(GridDungeon dungeon, ByteBuffer dst) throws IllegalArgumentException {
+    if (dungeon == null) {
+      throw new IllegalArgumentException("Dungeon cannot be null");
+    }
+    if (dst == null || dst.remaining() < size * Integer.BYTES) {
+      throw new IllegalArgumentException("Observation needs " + size * Integer.BYTES + " bytes");
+    }
+    int cave = dungeon.playerCave();
+    for (int i = 0; i < size; i++) {
+      dst.putInt(value(dungeon, cave, i));
+    }
+  }
+
+  private int value(GridDungeon dungeon, int cave, int index) {
+    if (index >= PATCH) {
+      return patch(dungeon, cave, index - PATCH);
+    } else if (index == LOCATION_MONSTER) {
+      return dungeon.hasMonster(cave) ? dungeon.getMonsterHealth(cave) : 0;
+    } else if (index == LOCATION_TYPE) {
+      return dungeon.getTopology().getLocationType(cave) == LocationType.TUNNEL ? 1 : 0;
+    } else if (index == LOCATION_ARROWS) {
+      return dungeon.getArrow(cave);
+    } else if (index >= LOCATION_TREASURE) {
+      return dungeon.countTreasure(cave, TYPES[index - LOCATION_TREASURE]);
+    } else if (index >= PLAYER_TREASURE) {
+      return dungeon.countPlayerTreasure(TYPES[index - PLAYER_TREASURE]);
+    } else if (index == ARROWS) {
+      return dungeon.getPlayerArrows();
+    } else if (index == SMELL) {
+      return dungeon.checkSmell().ordinal();
+    } else if (index == DOORS) {
+      return dungeon.getTopology().getDoors(cave);
+    }
+    return cave;
+  }
+
+  //the location of the patch at the given row and column from its north west corner
+  private int patch(GridDungeon dungeon, int cave, int cell) {
+    GridTopology topology = dungeon.getTopology();
+    int rows = topology.getRows();
+    int columns = topology.getColumns();
+    int row = cave / columns + cell / side - radius;
+    int column = cave % columns + cell % side - radius;
+    if (topology.isWrapping()) {
+      row = Math.floorMod(row, rows);
+      column = Math.floorMod(column, columns);
+    } else if (row < 0 || row >= rows || column < 0 || column >= columns) {
+      return -1;
+    }
+    int id = row * columns + column;
+    return topology.getDoors(id) | (dungeon.isVisited(id) ? VISITED : 0);
+  }
+}
@@ -0,0 +1,117 @@
+package dungeon;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * This class represents a loop over a range of ids that is split into parts and run on a fork/join
+ * pool. The parts are run on the pool of the calling task, or on the common pool when the caller
+ * is not a fork/join task, and a range too small to be worth splitting runs on the calling thread.
+ * Every id is given to the body exactly once, so a body that only writes the state of its own id
+ * gives the same result whatever the no of threads.
+ */
+final class ParallelRange extends RecursiveAction {
+
+  private static final long serialVersionUID = 1L;
+
+  //no of ids below which a part is not split any further
+  static final int GRAIN = 1 << 13;
+
+  private final int from;
+  private final int to;
+  private final IntConsumer body;
+
+  private ParallelRange(int from, int to, IntConsumer body) {
+    this.from = from;
+    this.to = to;
+    this.body = body;
+  }
+
+  /**
+   * This method runs the body for every id of the range, in parallel when the range is large.
+   *
+   * @param from this parameter takes the first id of the range
+   * @param to   this parameter takes the id after the last id of the range
+   * @param body this parameter takes the work to do for an id
+   */
+  static void forEach(int from, int to, IntConsumer body) {
+    forEach(from, to, true, body);
+  }
+
+  /**
+   * This method runs the body for every id of the range, in parallel when allowed and the range is
+   * large, and otherwise in order of id on the calling thread.
+   *
+   * @param from     this parameter takes the first id of the range
+   * @param to       this parameter takes the id after the last id of the range
+   * @param parallel this parameter takes whether the ids may be run in parallel
+   * @param body     this parameter takes the work to do for an id
+   */
+  static void forEach(int from, int to, boolean parallel, IntConsumer body) {
+    if (!parallel || to - from <= GRAIN) {
+      for (int i = from; i < to; i++) {
+        body.accept(i);
+      }
+      return;
+    }
+    new ParallelRange(from, to, body).invoke();
+  }
+
+  @Override
+  protected void compute() {
+    if (to - from <= GRAIN) {
+      for (int i = from; i < to; i++) {
+        body.accept(i);
+      }
+      return;
+    }
+    int mid = (from + to) >>> 1;
+    invokeAll(new ParallelRange(from, mid, body), new ParallelRange(mid, to, body));
+  }
+
+  /**
+   * This method provides the ids from 0 up to the given count that pass the check, in order. The
+   * ids are checked once each, in parallel parts of a fixed size, so the result is the same
+   * whatever the no of threads.
+   *
+   * @param count this parameter takes the no of ids
+   * @param keep  this parameter takes the check of an id
+   * @return the ids that pass the check
+   */
+  static int[] select(int count, IntPredicate keep) {
+    int parts = (count + GRAIN - 1) / GRAIN;
+    int[] buffer = new int[count];
+    int[] counts = new int[parts + 1];
+    forEach(0, parts, part -> {
+      int next = part * GRAIN;
+      for (int i = part * GRAIN; i < Math.min(count, (part + 1) * GRAIN); i++) {
+        if (keep.test(i)) {
+          buffer[next++] = i;
+        }
+      }
+      counts[part + 1] = next - part * GRAIN;
+    });
+    return gather(buffer, counts);
+  }
+
+  /**
+   * This method joins the values kept at the start of every part of an array into a new array.
+   *
+   * @param buffer this parameter takes the parts with the kept values at their start
+   * @param counts this parameter takes the no of values kept by every part from position 1, with
+   *               position 0 left at 0
+   * @return the kept values, in order
+   */
+  static int[] gather(int[] buffer, int[] counts) {
+    int parts = counts.length - 1;
+    int[] offset = counts.clone();
+    for (int part = 0; part < parts; part++) {
+      offset[part + 1] += offset[part];
+    }
+    int[] kept = new int[offset[parts]];
+    forEach(0, parts, part -> System.arraycopy(buffer, part * GRAIN, kept, offset[part],
+            offset[part + 1] - offset[part]));
+    return kept;
+  }
+}
@@ -1,10 +1,7 @@
 package dungeon;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
 
 /**
  * This class represents the player playing in the dungeon, along with the treasures that
@@ -82,15 +79,20 @@ public class PlayerImpl implements Player {
     if (direction == null) {
       throw new IllegalArgumentException("Direction cannot be null");
     }
-    Map<Direction, Location> neighborMap =
-            new HashMap<Direction, Location>(this.currentCave.getNeighbors());
-    if (neighborMap.containsKey(direction)) {
-      this.currentCave = neighborMap.get(direction);
+    //the neighbors are already a copy, so they are not copied again
+    Location next = this.currentCave.getNeighbors().get(direction);
+    if (next != null) {
+      this.currentCave = next;
       return true;
     }
     return false;
   }
 
+  //moves the player to a neighbor the dungeon has already found
+  void moveTo(Location location) {
+    this.currentCave = location;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -100,6 +102,17 @@ public class PlayerImpl implements Player {
     this.currentCave.removeTreasure();
   }
 
+  //no of treasures of the type, counted without copying the list
+  int countTreasure(Treasure treasure) {
+    int count = 0;
+    for (int i = 0; i < treasureList.size(); i++) {
+      if (treasureList.get(i) == treasure) {
+        count++;
+      }
+    }
+    return count;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -157,22 +170,17 @@ public class PlayerImpl implements Player {
     StringBuilder sb = new StringBuilder();
     sb.append("The player is in " + currentCave.getLocationType() + ": "
             + currentCave.getId());
-    Map<Treasure, Integer> treasureMap = new TreeMap<>();
-    for (int i = 0; i < treasureList.size(); i++) {
-      if (treasureMap.containsKey(treasureList.get(i))) {
-        treasureMap.put(treasureList.get(i),
-                treasureMap.get(treasureList.get(i)) + 1);
-      } else {
-        treasureMap.put(treasureList.get(i), 1);
-      }
-    }
-    if (treasureMap.isEmpty()) {
+    //the treasures are listed by type in the order of the types, with their counts
+    if (treasureList.isEmpty()) {
       sb.append("\nPlayer has no treasure");
     } else {
       sb.append("\nPlayer has following treasures:");
     }
-    for (Map.Entry<Treasure, Integer> m : treasureMap.entrySet()) {
-      sb.append(" " + m.getKey() + ": " + m.getValue());
+    for (Treasure treasure : Treasure.values()) {
+      int count = countTreasure(treasure);
+      if (count > 0) {
+        sb.append(" " + treasure + ": " + count);
+      }
     }
 
     if (arrowCount > 0) {
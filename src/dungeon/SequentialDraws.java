@@ -0,0 +1,46 @@
+package dungeon;
+
+import randomizer.Randomizer;
+
+/**
+ * This class represents the decisions of a dungeon taken from the next numbers of a randomizer,
+ * in the order the decisions are made. The phase and key of a decision are not used.
+ */
+final class SequentialDraws implements DungeonDraws {
+
+  private final Randomizer randomizer;
+
+  /**
+   * Constructs the decisions taken from the given randomizer.
+   *
+   * @param randomizer this parameter takes the randomizer
+   */
+  SequentialDraws(Randomizer randomizer) {
+    this.randomizer = randomizer;
+  }
+
+  @Override
+  public boolean isKeyed() {
+    return false;
+  }
+
+  @Override
+  public int draw(int phase, int key, int index, int min, int max) {
+    return randomizer.getNextInt(min, max);
+  }
+
+  @Override
+  public void fill(int phase, int[] keys, int[] dst, int min, int max) {
+    randomizer.fillInts(dst, min, max);
+  }
+
+  @Override
+  public void pick(int phase, int[] ids, int k) {
+    randomizer.partialShuffle(ids, k);
+  }
+
+  @Override
+  public int[] sample(int phase, int n, int k) {
+    return randomizer.sampleWithoutReplacement(n, k);
+  }
+}
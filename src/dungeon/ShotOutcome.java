@@ -0,0 +1,10 @@
+package dungeon;
+
+/**
+ * This is an enumeration for the outcomes of an arrow shot by the player, for the callers that
+ * play the game without showing it as text. An arrow that hits a wall before it travels the whole
+ * distance is not used up, any other shot uses up the arrow.
+ */
+public enum ShotOutcome {
+  NO_ARROWS, HIT_WALL, MISSED, INJURED, KILLED;
+}
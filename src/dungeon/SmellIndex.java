@@ -0,0 +1,108 @@
+package dungeon;
+
+/**
+ * This class represents the smell of the Otyughs in every location of a dungeon. For every
+ * location it keeps the no of live Otyughs one move away and exactly two moves away, so the smell
+ * at a location is read without searching the dungeon. Adding or killing an Otyugh only updates
+ * the locations within two moves of it. The counting and the levels are also provided on their
+ * own, so counts kept outside a dungeon give the same smell as the dungeon.
+ */
+public final class SmellIndex {
+
+  private final GridTopology topology;
+  private final byte[] near;
+  private final byte[] far;
+
+  /**
+   * Constructs the smell of a dungeon without any live Otyugh.
+   *
+   * @param topology this parameter takes the passages of the dungeon
+   * @throws IllegalArgumentException when the topology is null
+   */
+  SmellIndex(GridTopology topology) throws IllegalArgumentException {
+    if (topology == null) {
+      throw new IllegalArgumentException("Topology cannot be null");
+    }
+    this.topology = topology;
+    this.near = new byte[topology.size()];
+    this.far = new byte[topology.size()];
+  }
+
+  /**
+   * This method adds the smell of a live Otyugh at the given location.
+   *
+   * @param id this parameter takes the location id of the Otyugh
+   */
+  void addMonster(int id) {
+    update(id, 1);
+  }
+
+  /**
+   * This method removes the smell of an Otyugh that has been killed at the given location.
+   *
+   * @param id this parameter takes the location id of the Otyugh
+   */
+  void removeMonster(int id) {
+    update(id, -1);
+  }
+
+  /**
+   * This method provides the smell at the given location. One live Otyugh a move away or two live
+   * Otyughs two moves away give a high smell, one live Otyugh two moves away gives a low smell.
+   *
+   * @param id this parameter takes the location id
+   * @return the type of smell
+   */
+  SmellType getSmell(int id) {
+    return level(near[id], far[id]);
+  }
+
+  /**
+   * This method provides the smell from the counts of a location. One live Otyugh a move away or
+   * two live Otyughs two moves away give a high smell, one live Otyugh two moves away gives a low
+   * smell.
+   *
+   * @param near this parameter takes the no of live Otyughs a move away
+   * @param far  this parameter takes the no of live Otyughs exactly two moves away
+   * @return the type of smell
+   */
+  public static SmellType level(int near, int far) {
+    if (near > 0 || far >= 2) {
+      return SmellType.HIGH;
+    } else if (far == 1) {
+      return SmellType.LOW;
+    }
+    return SmellType.NONE;
+  }
+
+  /**
+   * This method adds the given change to the counts of the locations within two moves of an
+   * Otyugh. The counts of a location are kept at its id plus the given offset, so the counts of
+   * several dungeons can share the same arrays.
+   *
+   * @param topology this parameter takes the passages of the dungeon
+   * @param id       this parameter takes the location id of the Otyugh
+   * @param delta    this parameter takes the change, 1 for a new and -1 for a killed Otyugh
+   * @param near     this parameter takes the counts of the live Otyughs a move away
+   * @param far      this parameter takes the counts of the live Otyughs exactly two moves away
+   * @param offset   this parameter takes the position of the counts of location 0
+   * @throws IllegalArgumentException when the location is not a location of the topology
+   */
+  public static void spread(GridTopology topology, int id, int delta, byte[] near, byte[] far,
+                            int offset) throws IllegalArgumentException {
+    GridBfs search = GridBfs.get();
+    int reached = search.run(topology, id, 2);
+    for (int i = 1; i < reached; i++) {
+      int next = search.order(i);
+      if (search.distance(next) == 1) {
+        near[offset + next] += delta;
+      } else {
+        far[offset + next] += delta;
+      }
+    }
+  }
+
+  private void update(int id, int delta) {
+    spread(topology, id, delta, near, far, 0);
+  }
+}
@@ -0,0 +1,22 @@
+package dungeon;
+
+import java.util.BitSet;
+
+/**
+ * This interface represents an algorithm that finds the minimum spanning tree of the edges of a
+ * dungeon. The edges are ordered by weight and then by the order they were created in, so the
+ * tree is the same whichever algorithm finds it. The sequential Kruskal Algorithm does the least
+ * work, the Boruvka Algorithm does more of it but spreads it over the threads of the pool it runs
+ * in, so it only pays off for large dungeons on many cores.
+ */
+interface SpanningTreeBuilder {
+
+  /**
+   * This method orders the edges by weight and finds the minimum spanning tree.
+   *
+   * @param edges this parameter takes the edges, which are ordered by weight in place
+   * @param n     this parameter takes the no of locations
+   * @return the indexes of the tree edges in the ordered edges
+   */
+  BitSet build(EdgeStore edges, int n);
+}
@@ -0,0 +1,78 @@
+package dungeon;
+
+/**
+ * This class represents the search for the start and end caves of a dungeon. The start is the
+ * first of the shuffled caves that has another cave at least five moves away, and the end is the
+ * cave with the lowest id at that distance from the start. When the first cave does not qualify,
+ * every cave is less than five moves from it, so there are no more caves than locations within
+ * that distance. Every other start is then checked with a search that stops four moves away, and
+ * it qualifies when that search misses a cave, so a dungeon where no two caves are far enough
+ * apart is rejected after a single search of the whole dungeon.
+ */
+final class StartEndSearch {
+
+  /**
+   * The least no of moves between the start and the end cave.
+   */
+  static final int MIN_DISTANCE = 5;
+
+  private StartEndSearch() {
+  }
+
+  /**
+   * This method finds the start and end caves.
+   *
+   * @param topology this parameter takes the passages of the dungeon
+   * @param starts   this parameter takes the ids of the caves in the order they are tried as start
+   * @return the id of the start cave followed by the id of the end cave
+   * @throws IllegalArgumentException when no two caves are far enough apart
+   */
+  static int[] find(GridTopology topology, int[] starts)
+          throws IllegalArgumentException {
+    if (starts.length < 2 || topology.size() <= MIN_DISTANCE) {
+      throw new IllegalArgumentException("The matrix size is not valid, no start end possible!");
+    }
+    GridBfs search = GridBfs.get();
+
+    int first = starts[0];
+    int end = lowestEnd(topology, search, first);
+    if (end >= 0) {
+      return new int[] {first, end};
+    }
+
+    //the first search reached every cave, and none of them was far enough from the first one
+    int caves = cavesReached(topology, search);
+    for (int i = 1; i < starts.length; i++) {
+      int start = starts[i];
+      //every cave is within a few moves, so this search only visits a few locations
+      search.run(topology, start, MIN_DISTANCE - 1);
+      if (cavesReached(topology, search) < caves) {
+        return new int[] {start, lowestEnd(topology, search, start)};
+      }
+    }
+    throw new IllegalArgumentException("The matrix size is not valid, no start end possible!");
+  }
+
+  //the cave with the lowest id that is far enough from the start, or -1 when there is none
+  private static int lowestEnd(GridTopology topology, GridBfs search, int start) {
+    search.run(topology, start);
+    for (int i = 0; i < topology.size(); i++) {
+      if (search.distance(i) >= MIN_DISTANCE
+              && topology.getLocationType(i) == LocationType.CAVE) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  //the no of caves the last search reached
+  private static int cavesReached(GridTopology topology, GridBfs search) {
+    int caves = 0;
+    for (int i = 0; i < search.reached(); i++) {
+      if (topology.getLocationType(search.order(i)) == LocationType.CAVE) {
+        caves++;
+      }
+    }
+    return caves;
+  }
+}
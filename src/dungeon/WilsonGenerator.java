@@ -0,0 +1,126 @@
+package dungeon;
+
+import java.util.BitSet;
+
+import randomizer.Randomizer;
+
+/**
+ * This class represents the Wilson Algorithm. The maze starts from one random location, and every
+ * location not yet in it starts a random walk that ends when it reaches the maze. Each location
+ * only remembers the direction it was last left in, which erases the loops of the walk, and the
+ * walk is then followed again from its start to join it to the maze. Every spanning tree of the
+ * grid comes out with the same chance.
+ *
+ * <p>A walk that has not reached the maze after many times the no of locations is joined to the
+ * nearest location of the maze by a shortest path instead. A random walk gets there long before,
+ * but a randomizer that repeats its numbers, like the fixed one, walks a cycle that never ends.
+ */
+class WilsonGenerator implements MazeGenerator {
+
+  //steps a walk may take for every location of the grid before it is joined to the maze
+  private static final long WALK_LIMIT = 64;
+
+  @Override
+  public GridTopology generate(int rows, int columns, int interconnectivity, boolean wrapping,
+                               Randomizer randomizer) throws IllegalArgumentException {
+    ExtraPassages.check(rows, columns, wrapping, interconnectivity);
+    GridTopology topology = new GridTopology(rows, columns, wrapping);
+    DungeonDraws draws = DungeonDraws.of(randomizer);
+    int size = topology.size();
+
+    BitSet inMaze = new BitSet(size);
+    byte[] leftBy = new byte[size];
+    Direction[] directions = Direction.VALUES;
+    Direction[] open = new Direction[directions.length];
+    inMaze.set(draws.choose(DungeonDraws.MAZE_STEP, 0, 0, size));
+    long limit = WALK_LIMIT * size;
+    long step = 1;
+    Shortcut shortcut = null;
+
+    for (int start = inMaze.nextClearBit(0); start < size; start = inMaze.nextClearBit(start)) {
+      int current = start;
+      for (long walked = 0; !inMaze.get(current); walked++) {
+        if (walked == limit) {
+          if (shortcut == null) {
+            shortcut = new Shortcut(size);
+          }
+          shortcut.join(topology, inMaze, leftBy, current);
+          break;
+        }
+        int count = 0;
+        for (Direction direction : directions) {
+          int next = topology.adjacent(current, direction);
+          if (next >= 0 && next != current) {
+            open[count++] = direction;
+          }
+        }
+        Direction direction = open[draws.choose(DungeonDraws.MAZE_STEP, (int) step,
+                (int) (step >>> 32), count)];
+        step++;
+        leftBy[current] = (byte) direction.ordinal();
+        current = topology.adjacent(current, direction);
+      }
+
+      //follow the walk without its loops and join it to the maze
+      current = start;
+      while (!inMaze.get(current)) {
+        inMaze.set(current);
+        Direction direction = directions[leftBy[current]];
+        topology.open(current, direction);
+        current = topology.adjacent(current, direction);
+      }
+    }
+
+    ExtraPassages extra = new ExtraPassages(draws, interconnectivity);
+    extra.offerClosed(topology);
+    extra.open(topology);
+    return topology;
+  }
+
+  //a breadth first search from the end of a walk that goes on with the walk along the shortest
+  //path to the maze, only made when a walk is too long
+  private static final class Shortcut {
+    private final int[] queue;
+    private final int[] previous;
+    private final byte[] reachedBy;
+    private final int[] seen;
+    private int stamp;
+
+    private Shortcut(int size) {
+      this.queue = new int[size];
+      this.previous = new int[size];
+      this.reachedBy = new byte[size];
+      this.seen = new int[size];
+      this.stamp = 0;
+    }
+
+    private void join(GridTopology topology, BitSet inMaze, byte[] leftBy, int from) {
+      stamp++;
+      seen[from] = stamp;
+      queue[0] = from;
+      int head = 0;
+      int tail = 1;
+      int found = -1;
+      while (found < 0) {
+        int cell = queue[head++];
+        for (Direction direction : Direction.VALUES) {
+          int next = topology.adjacent(cell, direction);
+          if (next >= 0 && seen[next] != stamp) {
+            seen[next] = stamp;
+            previous[next] = cell;
+            reachedBy[next] = (byte) direction.ordinal();
+            if (inMaze.get(next)) {
+              found = next;
+              break;
+            }
+            queue[tail++] = next;
+          }
+        }
+      }
+      //the path is the last part of the walk, so every location on it is left along the path
+      for (int cell = found; cell != from; cell = previous[cell]) {
+        leftBy[previous[cell]] = reachedBy[cell];
+      }
+    }
+  }
+}
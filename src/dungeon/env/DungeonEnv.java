@@ -0,0 +1,421 @@
+package dungeon.env;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import dungeon.Direction;
+import dungeon.DungeonConfig;
+import dungeon.SmellIndex;
+import randomizer.SplitMix;
+
+/**
+ * This class represents a batch of independent dungeon games stepped together, for learning agents
+ * that play many games at once. The state of every game is kept in arrays indexed by the no of the
+ * game, and the content of the locations in arrays with one slice of the size of the grid for every
+ * game, so a step of all the games is one loop over primitive arrays that builds no text and
+ * creates no objects. The rules are those of the grid dungeon.
+ *
+ * <p>An action is an int: a move in a direction, a shot of up to {@link #MAX_SHOT_DISTANCE} caves
+ * in a direction, or the pickup of the treasures or arrows of the current location. After every
+ * step the observation, the reward and the done flag of every game are in arrays owned by the
+ * environment, which the next step writes over. A game that ends is started again at once from the
+ * next of the episodes created with the environment, and its observation is then the first one of
+ * the new game. The games are stepped on a fork/join pool when the environment has more than one
+ * thread, and since every game draws from a random stream of its own the results do not depend on
+ * the no of threads.
+ *
+ * <p>Episode e is the grid dungeon of the configuration created from a seeded randomizer with the
+ * seed {@code SplitMix.mix(seed + SplitMix.GOLDEN_GAMMA * (e + 1))}, its layout first and then its
+ * content, so an episode can be played again outside the environment.
+ */
+public class DungeonEnv implements AutoCloseable {
+
+  public static final int MAX_SHOT_DISTANCE = 5;
+  public static final int PICK_TREASURE = 4 + 4 * MAX_SHOT_DISTANCE;
+  public static final int PICK_ARROW = PICK_TREASURE + 1;
+  public static final int ACTION_COUNT = PICK_ARROW + 1;
+
+  /**
+   * The observation of a game is this no of ints: the location of the player, the door mask of
+   * the location, the smell at the location as 0 for none, 1 for low and 2 for high, and the no of
+   * arrows of the player.
+   */
+  public static final int OBSERVATION_SIZE = 4;
+
+  public static final float WIN_REWARD = 1f;
+  public static final float LOSS_REWARD = -1f;
+
+  private static final int DIRECTIONS = 4;
+  private static final int START_ARROWS = 3;
+  private static final int[] OPPOSITE = new int[DIRECTIONS];
+
+  static {
+    for (Direction direction : Direction.values()) {
+      OPPOSITE[direction.ordinal()] = direction.getOpposite().ordinal();
+    }
+  }
+
+  private final Episodes episodes;
+  private final int envs;
+  private final int size;
+  private final int maxTurns;
+  private final ForkJoinPool pool;
+  private final int grain;
+
+  //the state of every game
+  private final int[] episode;
+  private final int[] position;
+  private final int[] arrows;
+  private final int[] treasure;
+  private final int[] turns;
+  private final long[] random;
+
+  //the content of every location of every game
+  private final byte[] caveTreasures;
+  private final byte[] caveArrows;
+  private final byte[] monsters;
+  private final byte[] near;
+  private final byte[] far;
+
+  private final int[] observations;
+  private final float[] rewards;
+  private final boolean[] dones;
+  private final boolean[] truncated;
+
+  /**
+   * Constructs an environment and creates its episodes.
+   *
+   * @param config   this parameter takes the configuration of the dungeons
+   * @param envs     this parameter takes the no of games stepped together
+   * @param episodes this parameter takes the no of episodes created for the games to start from
+   * @param maxTurns this parameter takes the no of turns after which a game is stopped
+   * @param seed     this parameter takes the seed the episodes and the games come from
+   * @param threads  this parameter takes the no of threads that step the games
+   * @throws IllegalArgumentException when the configuration is null or invalid or a no is not
+   *                                  positive
+   */
+  public DungeonEnv(DungeonConfig config, int envs, int episodes, int maxTurns, long seed,
+                    int threads) throws IllegalArgumentException {
+    if (config == null) {
+      throw new IllegalArgumentException("Configuration cannot be null");
+    }
+    if (envs < 1) {
+      throw new IllegalArgumentException("Environment count should be at least 1");
+    }
+    if (episodes < 1) {
+      throw new IllegalArgumentException("Episode count should be at least 1");
+    }
+    if (maxTurns < 1) {
+      throw new IllegalArgumentException("Turn limit should be at least 1");
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("Thread count should be at least 1");
+    }
+    if ((long) config.getRows() * config.getColumns() * Math.max(envs, episodes)
+            > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Environment has too many locations");
+    }
+    this.pool = threads > 1 ? new ForkJoinPool(threads) : null;
+    try {
+      this.episodes = new Episodes(config, episodes, seed, pool);
+    } catch (RuntimeException e) {
+      close();
+      throw e;
+    }
+    this.envs = envs;
+    this.size = this.episodes.size;
+    this.maxTurns = maxTurns;
+    this.grain = Math.max(256, envs / (threads * 4));
+
+    this.episode = new int[envs];
+    this.position = new int[envs];
+    this.arrows = new int[envs];
+    this.treasure = new int[envs];
+    this.turns = new int[envs];
+    this.random = new long[envs];
+    this.caveTreasures = new byte[envs * size];
+    this.caveArrows = new byte[envs * size];
+    this.monsters = new byte[envs * size];
+    this.near = new byte[envs * size];
+    this.far = new byte[envs * size];
+    this.observations = new int[envs * OBSERVATION_SIZE];
+    this.rewards = new float[envs];
+    this.dones = new boolean[envs];
+    this.truncated = new boolean[envs];
+
+    for (int i = 0; i < envs; i++) {
+      random[i] = SplitMix.mix(seed ^ SplitMix.GOLDEN_GAMMA * (i + 1));
+    }
+    reset();
+  }
+
+  /**
+   * This method provides the action that moves the player in the given direction.
+   *
+   * @param direction this parameter takes the direction of the move
+   * @return the action
+   */
+  public static int move(Direction direction) {
+    return direction.ordinal();
+  }
+
+  /**
+   * This method provides the action that shoots an arrow in the given direction.
+   *
+   * @param distance  this parameter takes the distance till which the arrow should travel
+   * @param direction this parameter takes the direction in which the arrow should travel
+   * @return the action
+   * @throws IllegalArgumentException when the distance is not between 1 and the largest distance
+   */
+  public static int shoot(int distance, Direction direction) throws IllegalArgumentException {
+    if (distance < 1 || distance > MAX_SHOT_DISTANCE) {
+      throw new IllegalArgumentException("Distance should be between 1 and "
+              + MAX_SHOT_DISTANCE);
+    }
+    return DIRECTIONS * distance + direction.ordinal();
+  }
+
+  /**
+   * This method starts every game again, game i from episode i, and writes the first observation
+   * of every game. The random streams of the games go on.
+   *
+   * @return the observations, owned by the environment
+   */
+  public int[] reset() {
+    for (int i = 0; i < envs; i++) {
+      start(i, i % episodes.count);
+      observe(i);
+      rewards[i] = 0f;
+      dones[i] = false;
+      truncated[i] = false;
+    }
+    return observations;
+  }
+
+  /**
+   * This method plays one turn of every game with the given actions. A game that ends in the turn
+   * is started again from its next episode.
+   *
+   * @param actions this parameter takes the action of every game
+   * @return the observations, owned by the environment
+   * @throws IllegalArgumentException when the actions are null, not one for every game or an
+   *                                  action is unknown
+   * @throws IllegalStateException    when the environment is closed
+   */
+  public int[] step(int[] actions) throws IllegalArgumentException, IllegalStateException {
+    if (actions == null || actions.length != envs) {
+      throw new IllegalArgumentException("Expected one action for each of the " + envs
+              + " games");
+    }
+    //the actions are checked before any game is stepped, so a bad batch changes nothing
+    for (int action : actions) {
+      if (action < 0 || action >= ACTION_COUNT) {
+        throw new IllegalArgumentException("Unknown action " + action);
+      }
+    }
+    if (pool != null && pool.isShutdown()) {
+      throw new IllegalStateException("Environment is closed");
+    }
+    if (pool == null || envs <= grain) {
+      step(actions, 0, envs);
+    } else {
+      pool.invoke(new Slice(actions, 0, envs));
+    }
+    return observations;
+  }
+
+  public int getEnvCount() {
+    return envs;
+  }
+
+  /**
+   * This method provides the observations of the games after the last step, the observation of
+   * game i at {@code i * OBSERVATION_SIZE}.
+   *
+   * @return the observations, owned by the environment
+   */
+  public int[] getObservations() {
+    return observations;
+  }
+
+  /**
+   * This method provides the reward of every game for the last step: {@link #WIN_REWARD} when the
+   * player reached the end cave alive, {@link #LOSS_REWARD} when the player got eaten and 0
+   * otherwise.
+   *
+   * @return the rewards, owned by the environment
+   */
+  public float[] getRewards() {
+    return rewards;
+  }
+
+  /**
+   * This method provides which games ended in the last step, by a win, a loss or the turn limit.
+   *
+   * @return the done flags, owned by the environment
+   */
+  public boolean[] getDones() {
+    return dones;
+  }
+
+  /**
+   * This method provides which games were stopped at the turn limit in the last step.
+   *
+   * @return the truncated flags, owned by the environment
+   */
+  public boolean[] getTruncated() {
+    return truncated;
+  }
+
+  /**
+   * This method provides the no of treasures the player of a game has picked up.
+   *
+   * @param env this parameter takes the no of the game
+   * @return the no of treasures
+   */
+  public int getTreasure(int env) {
+    return treasure[env];
+  }
+
+  /**
+   * This method stops the threads of the environment.
+   */
+  @Override
+  public void close() {
+    if (pool != null) {
+      pool.shutdownNow();
+    }
+  }
+
+  private void step(int[] actions, int from, int to) {
+    for (int i = from; i < to; i++) {
+      int action = actions[i];
+      int layout = episode[i] * size;
+      int at = i * size;
+      int current = position[i];
+      float reward = 0f;
+      boolean done = false;
+
+      if (action < DIRECTIONS) {
+        if ((episodes.doors[layout + current] & (1 << action)) != 0) {
+          current = episodes.adjacent[current * DIRECTIONS + action];
+          position[i] = current;
+          int health = monsters[at + current];
+          if (health == 100 || (health == 50 && (nextRandom(i) & 1) == 1)) {
+            reward = LOSS_REWARD;
+            done = true;
+          } else if (current == episodes.end[episode[i]]) {
+            reward = WIN_REWARD;
+            done = true;
+          }
+        }
+      } else if (action < PICK_TREASURE) {
+        shoot(i, layout, at, current, action % DIRECTIONS, action / DIRECTIONS);
+      } else if (action == PICK_TREASURE) {
+        treasure[i] += caveTreasures[at + current];
+        caveTreasures[at + current] = 0;
+      } else {
+        arrows[i] += caveArrows[at + current];
+        caveArrows[at + current] = 0;
+      }
+
+      boolean stopped = !done && ++turns[i] >= maxTurns;
+      rewards[i] = reward;
+      dones[i] = done || stopped;
+      truncated[i] = stopped;
+      if (done || stopped) {
+        start(i, (episode[i] + envs) % episodes.count);
+      }
+      observe(i);
+    }
+  }
+
+  private void shoot(int i, int layout, int at, int from, int direction, int distance) {
+    if (arrows[i] <= 0) {
+      return;
+    }
+    int current = from;
+    while (distance > 0) {
+      if ((episodes.doors[layout + current] & (1 << direction)) == 0) {
+        //the arrow hit a wall and is not used up
+        return;
+      }
+      current = episodes.adjacent[current * DIRECTIONS + direction];
+      if (episodes.caves[layout + current] == 1) {
+        distance--;
+      } else {
+        //the arrow leaves the tunnel through the door it did not come in from
+        for (int exit = 0; exit < DIRECTIONS; exit++) {
+          if (exit != OPPOSITE[direction]
+                  && (episodes.doors[layout + current] & (1 << exit)) != 0) {
+            direction = exit;
+            break;
+          }
+        }
+      }
+    }
+    arrows[i]--;
+    if (monsters[at + current] > 0) {
+      monsters[at + current] -= 50;
+      if (monsters[at + current] == 0) {
+        SmellIndex.spread(episodes.topologies[episode[i]], current, -1, near, far, at);
+      }
+    }
+  }
+
+  //puts the game back at the start of the episode
+  private void start(int i, int next) {
+    int from = next * size;
+    int at = i * size;
+    System.arraycopy(episodes.treasures, from, caveTreasures, at, size);
+    System.arraycopy(episodes.arrows, from, caveArrows, at, size);
+    System.arraycopy(episodes.monsters, from, monsters, at, size);
+    System.arraycopy(episodes.near, from, near, at, size);
+    System.arraycopy(episodes.far, from, far, at, size);
+    episode[i] = next;
+    position[i] = episodes.start[next];
+    arrows[i] = START_ARROWS;
+    treasure[i] = 0;
+    turns[i] = 0;
+  }
+
+  private void observe(int i) {
+    int cave = position[i];
+    int at = i * size + cave;
+    int o = i * OBSERVATION_SIZE;
+    observations[o] = cave;
+    observations[o + 1] = episodes.doors[episode[i] * size + cave];
+    observations[o + 2] = SmellIndex.level(near[at], far[at]).ordinal();
+    observations[o + 3] = arrows[i];
+  }
+
+  private long nextRandom(int i) {
+    random[i] += SplitMix.GOLDEN_GAMMA;
+    return SplitMix.mix(random[i]);
+  }
+
+  //a part of the games, split in two until it is small enough to step on one thread
+  private final class Slice extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final int[] actions;
+    private final int from;
+    private final int to;
+
+    private Slice(int[] actions, int from, int to) {
+      this.actions = actions;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= grain) {
+        step(actions, from, to);
+        return;
+      }
+      int mid = (from + to) >>> 1;
+      invokeAll(new Slice(actions, from, mid), new Slice(actions, mid, to));
+    }
+  }
+}
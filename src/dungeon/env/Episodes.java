@@ -0,0 +1,117 @@
+package dungeon.env;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import dungeon.Direction;
+import dungeon.DungeonConfig;
+import dungeon.DungeonLayout;
+import dungeon.GridDungeon;
+import dungeon.GridTopology;
+import dungeon.Location;
+import dungeon.LocationType;
+import dungeon.SmellIndex;
+import randomizer.SeededRandomizer;
+import randomizer.SplitMix;
+
+/**
+ * This class represents the games an environment starts from, created before the first step. Every
+ * episode is a layout with the treasures, arrows and Otyughs placed on it, flattened into arrays
+ * with one slice of the size of the grid for every episode, so starting a game again only copies
+ * the slices of its episode.
+ */
+final class Episodes {
+
+  final int count;
+  final int size;
+  //the location next to every location of the grid in every direction, -1 at a border
+  final int[] adjacent;
+  final byte[] doors;
+  //the passages of every episode, for the smell of an Otyugh that is killed
+  final GridTopology[] topologies;
+  final byte[] caves;
+  final int[] start;
+  final int[] end;
+  final byte[] treasures;
+  final byte[] arrows;
+  final byte[] monsters;
+  final byte[] near;
+  final byte[] far;
+
+  /**
+   * Constructs the episodes of a configuration.
+   *
+   * @param config this parameter takes the configuration of the dungeons
+   * @param count  this parameter takes the no of episodes
+   * @param seed   this parameter takes the seed the episodes come from
+   * @param pool   this parameter takes the pool the episodes are created on, null for the calling
+   *               thread
+   * @throws IllegalArgumentException when the configuration is invalid
+   */
+  Episodes(DungeonConfig config, int count, long seed, ForkJoinPool pool)
+          throws IllegalArgumentException {
+    this.count = count;
+    this.size = config.getRows() * config.getColumns();
+    this.adjacent = new int[size * Direction.values().length];
+    this.doors = new byte[count * size];
+    this.topologies = new GridTopology[count];
+    this.caves = new byte[count * size];
+    this.start = new int[count];
+    this.end = new int[count];
+    this.treasures = new byte[count * size];
+    this.arrows = new byte[count * size];
+    this.monsters = new byte[count * size];
+    this.near = new byte[count * size];
+    this.far = new byte[count * size];
+
+    //the first episode is created here so an invalid configuration is reported on this thread
+    create(config, 0, seed);
+    if (pool == null) {
+      for (int e = 1; e < count; e++) {
+        create(config, e, seed);
+      }
+    } else {
+      pool.submit(() -> IntStream.range(1, count).parallel().forEach(e -> create(config, e, seed)))
+              .join();
+    }
+  }
+
+  private void create(DungeonConfig config, int episode, long seed) {
+    SeededRandomizer<Object> randomizer = new SeededRandomizer<>(
+            SplitMix.mix(seed + SplitMix.GOLDEN_GAMMA * (episode + 1)));
+    DungeonLayout layout = DungeonLayout.create(config.getRows(), config.getColumns(),
+            config.getInterconnectivity(), config.isWrapping(), config.getGenerator(), randomizer);
+    GridDungeon dungeon = new GridDungeon(layout, config.getTreasurePercent(),
+            config.getMonsterCount(), randomizer);
+    GridTopology topology = layout.getTopology();
+
+    int at = episode * size;
+    if (episode == 0) {
+      for (int id = 0; id < size; id++) {
+        for (Direction direction : Direction.values()) {
+          adjacent[id * Direction.values().length + direction.ordinal()] =
+                  topology.adjacent(id, direction);
+        }
+      }
+    }
+    List<Location> locations = dungeon.getLocationList();
+    for (int id = 0; id < size; id++) {
+      doors[at + id] = (byte) topology.getDoors(id);
+      caves[at + id] = (byte) (topology.getLocationType(id) == LocationType.CAVE ? 1 : 0);
+      Location location = locations.get(id);
+      treasures[at + id] = (byte) location.getTreasureList().size();
+      arrows[at + id] = (byte) location.getArrow();
+      monsters[at + id] = (byte) (location.hasMonster() ? location.getMonster().getHealth() : 0);
+    }
+    for (int id = 0; id < size; id++) {
+      if (monsters[at + id] > 0) {
+        SmellIndex.spread(topology, id, 1, near, far, at);
+      }
+    }
+    topologies[episode] = topology;
+    start[episode] = layout.getStartCave();
+    end[episode] = layout.getEndCave();
+  }
+
+}
@@ -0,0 +1,114 @@
+package dungeon.sim;
+
+import dungeon.Direction;
+
+/**
+ * This class represents an action a strategy takes in a turn of a simulated game: a move, an arrow
+ * shot, or the pickup of the treasures or arrows of the current location. The moves and the shots
+ * of up to {@link #CACHED_DISTANCE} caves are made once and shared, so a strategy can answer an
+ * action every turn without creating one.
+ */
+public final class Action {
+
+  /**
+   * This is an enumeration for the kinds of action.
+   */
+  public enum Kind {
+    MOVE, SHOOT, PICK_TREASURE, PICK_ARROW;
+  }
+
+  public static final int CACHED_DISTANCE = 5;
+
+  public static final Action PICK_TREASURE = new Action(Kind.PICK_TREASURE, null, 0);
+  public static final Action PICK_ARROW = new Action(Kind.PICK_ARROW, null, 0);
+
+  private static final Action[] MOVES = new Action[Direction.values().length];
+  private static final Action[][] SHOTS =
+          new Action[Direction.values().length][CACHED_DISTANCE + 1];
+
+  static {
+    for (Direction direction : Direction.values()) {
+      MOVES[direction.ordinal()] = new Action(Kind.MOVE, direction, 0);
+      for (int distance = 1; distance <= CACHED_DISTANCE; distance++) {
+        SHOTS[direction.ordinal()][distance] = new Action(Kind.SHOOT, direction, distance);
+      }
+    }
+  }
+
+  private final Kind kind;
+  private final Direction direction;
+  private final int distance;
+
+  private Action(Kind kind, Direction direction, int distance) {
+    this.kind = kind;
+    this.direction = direction;
+    this.distance = distance;
+  }
+
+  /**
+   * This method provides the action that moves the player in the given direction.
+   *
+   * @param direction this parameter takes the direction of the move
+   * @return the move
+   * @throws IllegalArgumentException when the direction is null
+   */
+  public static Action move(Direction direction) throws IllegalArgumentException {
+    if (direction == null) {
+      throw new IllegalArgumentException("Direction cannot be null");
+    }
+    return MOVES[direction.ordinal()];
+  }
+
+  /**
+   * This method provides the action that shoots an arrow in the given direction.
+   *
+   * @param distance  this parameter takes the distance till which the arrow should travel
+   * @param direction this parameter takes the direction in which the arrow should travel
+   * @return the shot
+   * @throws IllegalArgumentException when the distance is less than 1 or the direction is null
+   */
+  public static Action shoot(int distance, Direction direction) throws IllegalArgumentException {
+    if (direction == null) {
+      throw new IllegalArgumentException("Direction cannot be null");
+    }
+    if (distance < 1) {
+      throw new IllegalArgumentException("Distance should be at least 1");
+    }
+    if (distance <= CACHED_DISTANCE) {
+      return SHOTS[direction.ordinal()][distance];
+    }
+    return new Action(Kind.SHOOT, direction, distance);
+  }
+
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * This method provides the direction of a move or a shot.
+   *
+   * @return the direction, null for a pickup
+   */
+  public Direction getDirection() {
+    return direction;
+  }
+
+  /**
+   * This method provides the distance of a shot.
+   *
+   * @return the distance, 0 for any other action
+   */
+  public int getDistance() {
+    return distance;
+  }
+
+  @Override
+  public String toString() {
+    if (kind == Kind.MOVE) {
+      return "move " + direction;
+    } else if (kind == Kind.SHOOT) {
+      return "shoot " + distance + " " + direction;
+    }
+    return kind == Kind.PICK_TREASURE ? "pick treasure" : "pick arrow";
+  }
+}
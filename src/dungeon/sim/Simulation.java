@@ -0,0 +1,256 @@
+package dungeon.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import dungeon.Dungeon;
+import dungeon.DungeonConfig;
+import dungeon.DungeonLayout;
+import dungeon.GridDungeon;
+import dungeon.MoveOutcome;
+import dungeon.ShotOutcome;
+import randomizer.SeededRandomizer;
+import randomizer.SplitMix;
+
+/**
+ * This class represents a headless simulation of the dungeon game, which plays a strategy through
+ * a large no of games on a pool of worker threads and counts how the games ended. The games are
+ * played through the moves and shots of the dungeon that answer an outcome instead of a
+ * description, so no text is built while they are played.
+ *
+ * <p>The games of a configuration are handed to the workers in blocks, and the games of a block
+ * are played on the same layout with treasures, arrows and Otyughs placed anew for every game.
+ * The layout, the content and the strategy seed of a game are fixed by the seed of the simulation
+ * and the no of the game, so the statistics do not depend on the no of threads. The workers add
+ * their counts to lock-free accumulators that are read once all the games are played.
+ */
+public class Simulation implements AutoCloseable {
+
+  private static final long LAYOUT_STREAM = 0x5DEECE66DL;
+  private static final long CONTENT_STREAM = 0xD1B54A32D192ED03L;
+  private static final long STRATEGY_STREAM = 0xC2B2AE3D27D4EB4FL;
+
+  private final int threads;
+  private final int gamesPerLayout;
+  private final ExecutorService workers;
+
+  /**
+   * Constructs a simulation with its worker threads.
+   *
+   * @param threads        this parameter takes the no of threads that play the games
+   * @param gamesPerLayout this parameter takes the no of games played on every layout created
+   * @throws IllegalArgumentException when a no is not positive
+   */
+  public Simulation(int threads, int gamesPerLayout) throws IllegalArgumentException {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Thread count should be at least 1");
+    }
+    if (gamesPerLayout < 1) {
+      throw new IllegalArgumentException("Games per layout should be at least 1");
+    }
+    this.threads = threads;
+    this.gamesPerLayout = gamesPerLayout;
+    AtomicInteger count = new AtomicInteger();
+    this.workers = Executors.newFixedThreadPool(threads, task -> {
+      Thread thread = new Thread(task, "dungeon-simulation-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * This method plays the given no of games of the configuration and waits for them to end.
+   *
+   * @param config     this parameter takes the configuration of the dungeons
+   * @param strategies this parameter takes the source of a new strategy for every worker thread
+   * @param games      this parameter takes the no of games to play
+   * @param maxTurns   this parameter takes the no of turns after which a game is stopped
+   * @param seed       this parameter takes the seed the dungeons and the strategy seeds come from
+   * @return the statistics of the games
+   * @throws IllegalArgumentException when a value is null or not positive, or the configuration is
+   *                                  invalid
+   * @throws IllegalStateException    when the simulation is closed or a strategy fails
+   */
+  public SimulationResult run(DungeonConfig config, Supplier<? extends Strategy> strategies,
+                              long games, int maxTurns, long seed)
+          throws IllegalArgumentException, IllegalStateException {
+    if (config == null) {
+      throw new IllegalArgumentException("Configuration cannot be null");
+    }
+    if (strategies == null) {
+      throw new IllegalArgumentException("Strategy source cannot be null");
+    }
+    if (games < 1) {
+      throw new IllegalArgumentException("Game count should be at least 1");
+    }
+    if (maxTurns < 1) {
+      throw new IllegalArgumentException("Turn limit should be at least 1");
+    }
+    if (workers.isShutdown()) {
+      throw new IllegalStateException("Simulation is closed");
+    }
+
+    Tally tally = new Tally();
+    AtomicLong next = new AtomicLong();
+    List<Callable<Void>> tasks = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      tasks.add(() -> {
+        try {
+          work(config, strategies.get(), games, maxTurns, seed, next, tally);
+        } catch (RuntimeException e) {
+          //the other workers stop at their next block
+          next.set(games);
+          throw e;
+        }
+        return null;
+      });
+    }
+
+    long started = System.nanoTime();
+    try {
+      for (Future<Void> future : workers.invokeAll(tasks)) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Simulation was interrupted");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IllegalArgumentException) {
+        throw (IllegalArgumentException) e.getCause();
+      }
+      throw new IllegalStateException("Simulation failed: " + e.getCause(), e.getCause());
+    }
+    long elapsed = System.nanoTime() - started;
+
+    return new SimulationResult(config, games, tally.wins.sum(), tally.losses.sum(),
+            tally.timeouts.sum(), tally.turns.sum(), tally.longest.get(), tally.kills.sum(),
+            elapsed);
+  }
+
+  /**
+   * This method plays the given no of games of every configuration, one configuration after the
+   * other.
+   *
+   * @param configs    this parameter takes the configurations of the dungeons
+   * @param strategies this parameter takes the source of a new strategy for every worker thread
+   * @param games      this parameter takes the no of games to play on every configuration
+   * @param maxTurns   this parameter takes the no of turns after which a game is stopped
+   * @param seed       this parameter takes the seed the dungeons and the strategy seeds come from
+   * @return the statistics of the games of every configuration, in the order of the configurations
+   * @throws IllegalArgumentException when a value is null or not positive, or a configuration is
+   *                                  invalid
+   * @throws IllegalStateException    when the simulation is closed or a strategy fails
+   */
+  public List<SimulationResult> run(List<DungeonConfig> configs,
+                                    Supplier<? extends Strategy> strategies, long games,
+                                    int maxTurns, long seed)
+          throws IllegalArgumentException, IllegalStateException {
+    if (configs == null) {
+      throw new IllegalArgumentException("Configurations cannot be null");
+    }
+    List<SimulationResult> results = new ArrayList<>();
+    for (DungeonConfig config : configs) {
+      results.add(run(config, strategies, games, maxTurns, seed));
+    }
+    return results;
+  }
+
+  /**
+   * This method stops the worker threads. Games being played are not waited for.
+   */
+  @Override
+  public void close() {
+    workers.shutdownNow();
+  }
+
+  //plays blocks of games until every game of the configuration is taken
+  private void work(DungeonConfig config, Strategy strategy, long games, int maxTurns,
+                    long seed, AtomicLong next, Tally tally) {
+    if (strategy == null) {
+      throw new IllegalArgumentException("Strategy cannot be null");
+    }
+    while (true) {
+      long first = next.getAndAdd(gamesPerLayout);
+      if (first >= games) {
+        return;
+      }
+      DungeonLayout layout = DungeonLayout.create(config.getRows(), config.getColumns(),
+              config.getInterconnectivity(), config.isWrapping(), config.getGenerator(),
+              new SeededRandomizer<>(seed(seed, LAYOUT_STREAM, first / gamesPerLayout)));
+      long last = Math.min(games, first + gamesPerLayout);
+      for (long game = first; game < last; game++) {
+        Dungeon dungeon = new GridDungeon(layout, config.getTreasurePercent(),
+                config.getMonsterCount(),
+                new SeededRandomizer<>(seed(seed, CONTENT_STREAM, game)));
+        play(dungeon, strategy, seed(seed, STRATEGY_STREAM, game), maxTurns, tally);
+      }
+    }
+  }
+
+  private static void play(Dungeon dungeon, Strategy strategy, long seed, int maxTurns,
+                           Tally tally) {
+    strategy.start(dungeon, seed);
+    boolean alive = true;
+    int turn = 0;
+    int kills = 0;
+    while (alive && turn < maxTurns && !dungeon.hasReachedEnd()) {
+      Action action = strategy.next(dungeon, turn);
+      if (action == null) {
+        throw new IllegalStateException("Strategy did not answer an action");
+      }
+      switch (action.getKind()) {
+        case MOVE:
+          alive = dungeon.move(action.getDirection()) != MoveOutcome.EATEN;
+          break;
+        case SHOOT:
+          if (dungeon.shoot(action.getDistance(), action.getDirection()) == ShotOutcome.KILLED) {
+            kills++;
+          }
+          break;
+        case PICK_TREASURE:
+          dungeon.takeTreasure();
+          break;
+        default:
+          dungeon.takeArrows();
+          break;
+      }
+      turn++;
+    }
+
+    if (!alive) {
+      tally.losses.increment();
+    } else if (dungeon.hasReachedEnd()) {
+      tally.wins.increment();
+    } else {
+      tally.timeouts.increment();
+    }
+    tally.turns.add(turn);
+    tally.kills.add(kills);
+    tally.longest.accumulate(turn);
+  }
+
+  //the seed of the given game or layout in one of the streams of the simulation seed
+  private static long seed(long seed, long stream, long index) {
+    return SplitMix.mix(SplitMix.mix(seed ^ stream) + SplitMix.GOLDEN_GAMMA * (index + 1));
+  }
+
+  //the counts of the games of a run, added to by every worker
+  private static final class Tally {
+    private final LongAdder wins = new LongAdder();
+    private final LongAdder losses = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder kills = new LongAdder();
+    private final LongAccumulator longest = new LongAccumulator(Math::max, 0);
+  }
+}
@@ -0,0 +1,119 @@
+package dungeon.sim;
+
+import dungeon.DungeonConfig;
+
+/**
+ * This class represents the statistics of the games a simulation played on one configuration: how
+ * the games ended, how many turns they took and how fast they were played.
+ */
+public final class SimulationResult {
+
+  private final DungeonConfig config;
+  private final long games;
+  private final long wins;
+  private final long losses;
+  private final long timeouts;
+  private final long turns;
+  private final long longestGame;
+  private final long kills;
+  private final long elapsedNanos;
+
+  SimulationResult(DungeonConfig config, long games, long wins, long losses, long timeouts,
+                   long turns, long longestGame, long kills, long elapsedNanos) {
+    this.config = config;
+    this.games = games;
+    this.wins = wins;
+    this.losses = losses;
+    this.timeouts = timeouts;
+    this.turns = turns;
+    this.longestGame = longestGame;
+    this.kills = kills;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  public DungeonConfig getConfig() {
+    return config;
+  }
+
+  public long getGames() {
+    return games;
+  }
+
+  /**
+   * This method provides the no of games in which the player reached the end cave alive.
+   *
+   * @return the no of games won
+   */
+  public long getWins() {
+    return wins;
+  }
+
+  /**
+   * This method provides the no of games in which the player got eaten by an Otyugh.
+   *
+   * @return the no of games lost
+   */
+  public long getLosses() {
+    return losses;
+  }
+
+  /**
+   * This method provides the no of games that were stopped at the turn limit before they ended.
+   *
+   * @return the no of games stopped
+   */
+  public long getTimeouts() {
+    return timeouts;
+  }
+
+  /**
+   * This method provides the no of turns played in all the games together.
+   *
+   * @return the no of turns
+   */
+  public long getTurns() {
+    return turns;
+  }
+
+  public long getLongestGame() {
+    return longestGame;
+  }
+
+  /**
+   * This method provides the no of Otyughs killed in all the games together.
+   *
+   * @return the no of Otyughs killed
+   */
+  public long getKills() {
+    return kills;
+  }
+
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  public double getWinRate() {
+    return (double) wins / games;
+  }
+
+  public double getAverageTurns() {
+    return (double) turns / games;
+  }
+
+  /**
+   * This method provides the throughput of the simulation, as the games played in a second of the
+   * time the games took from the first to the last.
+   *
+   * @return the no of games per second
+   */
+  public double getGamesPerSecond() {
+    return games * 1e9 / Math.max(1, elapsedNanos);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: %d games, %d won, %d lost, %d stopped, %.1f turns a game, "
+                    + "%d kills, %.0f games/s", config, games, wins, losses, timeouts,
+            getAverageTurns(), kills, getGamesPerSecond());
+  }
+}
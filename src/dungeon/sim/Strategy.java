@@ -0,0 +1,32 @@
+package dungeon.sim;
+
+import dungeon.Dungeon;
+
+/**
+ * This interface represents a way of playing the dungeon game, used by the simulation to play
+ * games without a player typing commands. A strategy looks at the dungeon and answers the action
+ * to take every turn, and the simulation carries it out. A strategy is used by one thread at a
+ * time, and every worker thread of a simulation gets a strategy of its own.
+ */
+public interface Strategy {
+
+  /**
+   * This method tells the strategy that a new game starts on the given dungeon, so it can forget
+   * what it learned in the previous game.
+   *
+   * @param dungeon this parameter takes the dungeon of the new game
+   * @param seed    this parameter takes a seed fixed by the game, for a strategy that makes random
+   *                choices and should play the same game the same way every time
+   */
+  public void start(Dungeon dungeon, long seed);
+
+  /**
+   * This method provides the action the player takes in the current turn. The strategy should
+   * only look at the dungeon and leave the moves, shots and pickups to the simulation.
+   *
+   * @param dungeon this parameter takes the dungeon of the game
+   * @param turn    this parameter takes the no of turns already played in the game
+   * @return the action to take, not null
+   */
+  public Action next(Dungeon dungeon, int turn);
+}
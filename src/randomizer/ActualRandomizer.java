@@ -1,9 +1,10 @@
 package randomizer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * This class represents the random generator class which implements all the methods
@@ -16,8 +17,7 @@ public class ActualRandomizer<T> implements Randomizer<T> {
    */
   @Override
   public int getNextInt(int min, int max) {
-    Random rn = new Random();
-    return rn.nextInt(max - min) + min;
+    return ThreadLocalRandom.current().nextInt(max - min) + min;
   }
 
   /**
@@ -26,7 +26,56 @@ public class ActualRandomizer<T> implements Randomizer<T> {
   @Override
   public List<T> shuffleList(List<T> list) {
     List<T> newList = new ArrayList<>(list);
-    Collections.shuffle(newList);
+    Collections.shuffle(newList, ThreadLocalRandom.current());
     return newList;
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void partialShuffle(int[] values, int k) throws IllegalArgumentException {
+    if (values == null) {
+      throw new IllegalArgumentException("Values cannot be null");
+    }
+    if (k < 0 || k > values.length) {
+      throw new IllegalArgumentException("Sample size should be between 0-" + values.length);
+    }
+    ThreadLocalRandom rn = ThreadLocalRandom.current();
+    for (int i = 0; i < k && i < values.length - 1; i++) {
+      int j = i + rn.nextInt(values.length - i);
+      int temp = values[i];
+      values[i] = values[j];
+      values[j] = temp;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int[] sampleWithoutReplacement(int n, int k) throws IllegalArgumentException {
+    if (n < 0) {
+      throw new IllegalArgumentException("No of values cannot be negative");
+    }
+    int[] values = new int[n];
+    for (int i = 0; i < n; i++) {
+      values[i] = i;
+    }
+    partialShuffle(values, k);
+    return Arrays.copyOf(values, k);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void fillInts(int[] dst, int min, int max) throws IllegalArgumentException {
+    if (dst == null) {
+      throw new IllegalArgumentException("Array cannot be null");
+    }
+    for (int i = 0; i < dst.length; i++) {
+      dst[i] = getNextInt(min, max);
+    }
+  }
 }
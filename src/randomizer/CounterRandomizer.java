@@ -0,0 +1,135 @@
+package randomizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class represents a random generator that works out every number by hashing the seed
+ * together with a phase, a key and an index, in the style of the SplitMix generator. A keyed
+ * number does not depend on any other number, so a dungeon generated from the same seed is the
+ * same whatever order its locations are filled in. The numbers asked for through the Randomizer
+ * methods are keyed by a counter, which is the only state of the generator.
+ */
+public class CounterRandomizer<T> implements Randomizer<T>, KeyedRandomizer {
+
+  //phase of the numbers asked for through the Randomizer methods
+  private static final int STREAM = -1;
+  private static final long KEY_GAMMA = 0xD1B54A32D192ED03L;
+
+  private final long seed;
+  private final AtomicLong counter;
+
+  /**
+   * Constructs a random generator from the given seed.
+   *
+   * @param seed this parameter takes the seed of the generator
+   */
+  public CounterRandomizer(long seed) {
+    this.seed = seed;
+    this.counter = new AtomicLong();
+  }
+
+  /**
+   * This method provides the seed the generator was created from.
+   *
+   * @return the seed
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getBits(int phase, long key, long index) {
+    long h = SplitMix.mix(seed + SplitMix.GOLDEN_GAMMA * (phase + 2L));
+    h = SplitMix.mix(h ^ (key * KEY_GAMMA));
+    return SplitMix.mix(h + SplitMix.GOLDEN_GAMMA * (index + 1));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getInt(int phase, long key, long index, int min, int max)
+          throws IllegalArgumentException {
+    if (max <= min) {
+      throw new IllegalArgumentException("Maximum should be larger than minimum");
+    }
+    long range = (long) max - min;
+    return (int) (min + (((getBits(phase, key, index) >>> 32) * range) >>> 32));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getNextInt(int min, int max) {
+    return getInt(STREAM, 0, counter.getAndIncrement(), min, max);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<T> shuffleList(List<T> list) {
+    List<T> newList = new ArrayList<>(list);
+    for (int i = newList.size() - 1; i > 0; i--) {
+      Collections.swap(newList, i, getNextInt(0, i + 1));
+    }
+    return newList;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void partialShuffle(int[] values, int k) throws IllegalArgumentException {
+    if (values == null) {
+      throw new IllegalArgumentException("Values cannot be null");
+    }
+    if (k < 0 || k > values.length) {
+      throw new IllegalArgumentException("Sample size should be between 0-" + values.length);
+    }
+    for (int i = 0; i < k && i < values.length - 1; i++) {
+      int j = getNextInt(i, values.length);
+      int temp = values[i];
+      values[i] = values[j];
+      values[j] = temp;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int[] sampleWithoutReplacement(int n, int k) throws IllegalArgumentException {
+    if (n < 0) {
+      throw new IllegalArgumentException("No of values cannot be negative");
+    }
+    int[] values = new int[n];
+    for (int i = 0; i < n; i++) {
+      values[i] = i;
+    }
+    partialShuffle(values, k);
+    return Arrays.copyOf(values, k);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void fillInts(int[] dst, int min, int max) throws IllegalArgumentException {
+    if (dst == null) {
+      throw new IllegalArgumentException("Array cannot be null");
+    }
+    long first = counter.getAndAdd(dst.length);
+    for (int i = 0; i < dst.length; i++) {
+      dst[i] = getInt(STREAM, 0, first + i, min, max);
+    }
+  }
+}
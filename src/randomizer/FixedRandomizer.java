@@ -40,4 +40,47 @@ public class FixedRandomizer<T> implements Randomizer<T> {
     return new ArrayList<T>(list);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void partialShuffle(int[] values, int k) throws IllegalArgumentException {
+    if (values == null) {
+      throw new IllegalArgumentException("Values cannot be null");
+    }
+    if (k < 0 || k > values.length) {
+      throw new IllegalArgumentException("Sample size should be between 0-" + values.length);
+    }
+  }
+
+  /**
+   * {@inheritDoc} The fixed generator does not shuffle, so the sample is the first k values.
+   */
+  @Override
+  public int[] sampleWithoutReplacement(int n, int k) throws IllegalArgumentException {
+    if (n < 0) {
+      throw new IllegalArgumentException("No of values cannot be negative");
+    }
+    if (k < 0 || k > n) {
+      throw new IllegalArgumentException("Sample size should be between 0-" + n);
+    }
+    int[] values = new int[k];
+    for (int i = 0; i < k; i++) {
+      values[i] = i;
+    }
+    return values;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void fillInts(int[] dst, int min, int max) throws IllegalArgumentException {
+    if (dst == null) {
+      throw new IllegalArgumentException("Array cannot be null");
+    }
+    for (int i = 0; i < dst.length; i++) {
+      dst[i] = getNextInt(min, max);
+    }
+  }
 }
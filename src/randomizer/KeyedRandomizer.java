@@ -0,0 +1,35 @@
+package randomizer;
+
+/**
+ * This interface represents a random generator where every number is worked out from a key
+ * instead of being the next number of a sequence. The same phase, key and index always give the
+ * same number, whatever other numbers were asked for before, so the numbers can be asked for in
+ * any order or from several threads.
+ */
+public interface KeyedRandomizer {
+
+  /**
+   * This method provides the random bits for the given phase, key and index.
+   *
+   * @param phase this parameter takes the phase of the generation the number is used in
+   * @param key   this parameter takes the key of the number, such as a location id
+   * @param index this parameter takes the index of the number among the numbers of the key
+   * @return 64 random bits
+   */
+  public long getBits(int phase, long key, long index);
+
+  /**
+   * This method provides a random number between minimum and maximum values for the given phase,
+   * key and index.
+   *
+   * @param phase this parameter takes the phase of the generation the number is used in
+   * @param key   this parameter takes the key of the number, such as a location id
+   * @param index this parameter takes the index of the number among the numbers of the key
+   * @param min   this parameter takes the minimum value
+   * @param max   this parameter takes the maximum value, which is never returned
+   * @return an integer between minimum and maximum value
+   * @throws IllegalArgumentException when the maximum is not larger than the minimum
+   */
+  public int getInt(int phase, long key, long index, int min, int max)
+          throws IllegalArgumentException;
+}
@@ -23,4 +23,37 @@ public interface Randomizer<T> {
    * @param list this parameter takes the not shuffled array list
    */
   public List<T> shuffleList(List<T> list);
+
+  /**
+   * This method shuffles the beginning of the given array in place, so that its first k values
+   * are a random sample of all the values in the array. Only k swaps are made, the rest of the
+   * array is left in an unspecified order.
+   *
+   * @param values this parameter takes the array of values to sample from
+   * @param k      this parameter takes the number of values that should be sampled
+   * @throws IllegalArgumentException when the array is null or k is not between 0 and its length
+   */
+  public void partialShuffle(int[] values, int k) throws IllegalArgumentException;
+
+  /**
+   * This method provides a random sample of k different values between 0 and n - 1, in the order
+   * they were drawn.
+   *
+   * @param n this parameter takes the no of values to sample from
+   * @param k this parameter takes the no of values that should be sampled
+   * @return the sampled values
+   * @throws IllegalArgumentException when n is negative or k is not between 0 and n
+   */
+  public int[] sampleWithoutReplacement(int n, int k) throws IllegalArgumentException;
+
+  /**
+   * This method fills the given array with random numbers between minimum and maximum values, the
+   * same numbers that as many calls of getNextInt would provide.
+   *
+   * @param dst this parameter takes the array to fill
+   * @param min this parameter takes the minimum value
+   * @param max this parameter takes the maximum value
+   * @throws IllegalArgumentException when the array is null
+   */
+  public void fillInts(int[] dst, int min, int max) throws IllegalArgumentException;
 }
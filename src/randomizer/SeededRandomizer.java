@@ -0,0 +1,124 @@
+package randomizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * This class represents a random generator that starts from an explicit seed, so the same seed
+ * always gives the same numbers and a dungeon can be created again exactly. It can be split into
+ * an independent generator whose numbers are also fixed by the seed, which gives every phase of
+ * the generation or every worker thread a stream of its own. The methods of one generator are
+ * synchronized so it can be shared, but threads should each use a split generator to avoid waiting
+ * on each other.
+ */
+public class SeededRandomizer<T> implements Randomizer<T> {
+
+  private final long seed;
+  private final SplittableRandom random;
+
+  /**
+   * Constructs a random generator from the given seed.
+   *
+   * @param seed this parameter takes the seed of the generator
+   */
+  public SeededRandomizer(long seed) {
+    this(seed, new SplittableRandom(seed));
+  }
+
+  private SeededRandomizer(long seed, SplittableRandom random) {
+    this.seed = seed;
+    this.random = random;
+  }
+
+  /**
+   * This method provides the seed the generator was created from. A split generator gives the
+   * seed of the generator it was split from.
+   *
+   * @return the seed
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * This method provides a new generator whose numbers are independent of the numbers of this
+   * generator and fixed by its seed and the no of calls made on it so far.
+   *
+   * @return the split generator
+   */
+  public synchronized SeededRandomizer<T> split() {
+    return new SeededRandomizer<>(seed, random.split());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized int getNextInt(int min, int max) {
+    return random.nextInt(min, max);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized List<T> shuffleList(List<T> list) {
+    List<T> newList = new ArrayList<>(list);
+    for (int i = newList.size() - 1; i > 0; i--) {
+      Collections.swap(newList, i, random.nextInt(i + 1));
+    }
+    return newList;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void partialShuffle(int[] values, int k) throws IllegalArgumentException {
+    if (values == null) {
+      throw new IllegalArgumentException("Values cannot be null");
+    }
+    if (k < 0 || k > values.length) {
+      throw new IllegalArgumentException("Sample size should be between 0-" + values.length);
+    }
+    for (int i = 0; i < k && i < values.length - 1; i++) {
+      int j = i + random.nextInt(values.length - i);
+      int temp = values[i];
+      values[i] = values[j];
+      values[j] = temp;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized int[] sampleWithoutReplacement(int n, int k)
+          throws IllegalArgumentException {
+    if (n < 0) {
+      throw new IllegalArgumentException("No of values cannot be negative");
+    }
+    int[] values = new int[n];
+    for (int i = 0; i < n; i++) {
+      values[i] = i;
+    }
+    partialShuffle(values, k);
+    return Arrays.copyOf(values, k);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void fillInts(int[] dst, int min, int max) throws IllegalArgumentException {
+    if (dst == null) {
+      throw new IllegalArgumentException("Array cannot be null");
+    }
+    for (int i = 0; i < dst.length; i++) {
+      dst[i] = getNextInt(min, max);
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package randomizer;
+
+/**
+ * This class represents the parts of the SplitMix generator that the seeded streams of the game
+ * are built from: the step a generator adds to its state for every number, and the finalizer that
+ * turns a state into a well mixed number.
+ */
+public final class SplitMix {
+
+  /**
+   * The step added to the state of the generator for every number, the odd integer closest to
+   * 2^64 divided by the golden ratio.
+   */
+  public static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+  private SplitMix() {
+  }
+
+  /**
+   * This method mixes the bits of the given state, so that states that differ in a single bit
+   * give unrelated numbers.
+   *
+   * @param z this parameter takes the state
+   * @return the mixed number
+   */
+  public static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
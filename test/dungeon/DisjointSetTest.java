@@ -0,0 +1,102 @@
+package dungeon;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class to check the disjoint sets the spanning tree algorithms join the locations with. It
+ * lives in the package of the class, since the class is not part of the public API.
+ */
+public class DisjointSetTest {
+
+  @Test
+  public void everyLocationStartsAlone() {
+    DisjointSet sets = new DisjointSet(5);
+    for (int i = 0; i < 5; i++) {
+      assertEquals(i, sets.find(i));
+      assertEquals(i, sets.root(i));
+    }
+  }
+
+  @Test
+  public void emptySets() {
+    new DisjointSet(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeSize() {
+    new DisjointSet(-1);
+  }
+
+  @Test
+  public void unionMergesOnce() {
+    DisjointSet sets = new DisjointSet(4);
+    assertTrue(sets.union(0, 1));
+    assertFalse(sets.union(1, 0));
+    assertFalse(sets.union(1, 1));
+    assertEquals(sets.find(0), sets.find(1));
+    assertNotEquals(sets.find(0), sets.find(2));
+  }
+
+  @Test
+  public void unionIsTransitive() {
+    DisjointSet sets = new DisjointSet(6);
+    sets.union(0, 1);
+    sets.union(2, 3);
+    sets.union(1, 3);
+    assertFalse(sets.union(0, 2));
+    assertEquals(sets.find(0), sets.find(3));
+    assertNotEquals(sets.find(0), sets.find(4));
+    assertTrue(sets.union(4, 5));
+    assertTrue(sets.union(5, 0));
+    for (int i = 1; i < 6; i++) {
+      assertEquals(sets.find(0), sets.find(i));
+    }
+  }
+
+  @Test
+  public void equalRanksKeepTheFirstRoot() {
+    DisjointSet sets = new DisjointSet(4);
+    sets.union(0, 1);
+    assertEquals(0, sets.find(1));
+    sets.union(3, 2);
+    assertEquals(3, sets.find(2));
+    //both roots have rank 1, so the root of the first location stays the root
+    sets.union(2, 1);
+    assertEquals(3, sets.find(0));
+  }
+
+  @Test
+  public void smallerRankGoesUnderLargerRank() {
+    DisjointSet sets = new DisjointSet(3);
+    sets.union(0, 1);
+    //the single location has rank 0, so it goes under the root of rank 1 whatever the order
+    sets.union(2, 1);
+    assertEquals(0, sets.find(2));
+    assertEquals(0, sets.find(1));
+  }
+
+  @Test
+  public void rootMatchesFind() {
+    int n = 1 << 12;
+    DisjointSet sets = new DisjointSet(n);
+    //pairs, then pairs of pairs and so on, which builds the deepest trees union by rank allows
+    for (int step = 1; step < n; step *= 2) {
+      for (int i = 0; i + step < n; i += 2 * step) {
+        assertTrue(sets.union(i + step, i));
+      }
+    }
+    int root = sets.root(n - 1);
+    for (int i = 0; i < n; i++) {
+      assertEquals(root, sets.root(i));
+    }
+    for (int i = n - 1; i >= 0; i--) {
+      assertEquals(root, sets.find(i));
+      assertEquals(root, sets.root(i));
+    }
+  }
+}
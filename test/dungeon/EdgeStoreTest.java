@@ -0,0 +1,188 @@
+package dungeon;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class to check the packing of the edges the spanning tree algorithms order by weight. It
+ * lives in the package of the class, since the class is not part of the public API.
+ */
+public class EdgeStoreTest {
+
+  private static void assertEdge(EdgeStore edges, int index, int src, int dest, int weight,
+                                 boolean wrap) {
+    assertEquals(src, edges.getSrc(index));
+    assertEquals(dest, edges.getDest(index));
+    assertEquals(weight, edges.getWeight(index));
+    assertEquals(wrap, edges.isWrap(index));
+  }
+
+  @Test
+  public void fieldsDoNotBleedIntoEachOther() {
+    EdgeStore edges = new EdgeStore(0);
+    edges.add(EdgeStore.MAX_ID, 0, 127, true);
+    edges.add(0, EdgeStore.MAX_ID, 0, false);
+    edges.add(EdgeStore.MAX_ID, EdgeStore.MAX_ID, 0, true);
+    edges.add(0, 0, 127, false);
+    edges.add(12345, 678, 42, true);
+    assertEquals(5, edges.size());
+    assertEdge(edges, 0, EdgeStore.MAX_ID, 0, 127, true);
+    assertEdge(edges, 1, 0, EdgeStore.MAX_ID, 0, false);
+    assertEdge(edges, 2, EdgeStore.MAX_ID, EdgeStore.MAX_ID, 0, true);
+    assertEdge(edges, 3, 0, 0, 127, false);
+    assertEdge(edges, 4, 12345, 678, 42, true);
+  }
+
+  @Test
+  public void maxIdUsesAllIdBits() {
+    assertEquals((1 << 28) - 1, EdgeStore.MAX_ID);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void sourceTooLarge() {
+    new EdgeStore(1).add(EdgeStore.MAX_ID + 1, 0, 0, false);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void destinationTooLarge() {
+    new EdgeStore(1).add(0, EdgeStore.MAX_ID + 1, 0, false);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeSource() {
+    new EdgeStore(1).add(-1, 0, 0, false);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeDestination() {
+    new EdgeStore(1).add(0, -1, 0, false);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void weightTooLarge() {
+    new EdgeStore(1).add(0, 1, 128, false);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeWeight() {
+    new EdgeStore(1).add(0, 1, -1, false);
+  }
+
+  @Test
+  public void rejectedEdgeIsNotAdded() {
+    EdgeStore edges = new EdgeStore(1);
+    try {
+      edges.add(0, 1, 128, false);
+    } catch (IllegalArgumentException e) {
+      assertEquals(0, edges.size());
+      return;
+    }
+    throw new AssertionError("weight 128 was stored");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeCapacity() {
+    new EdgeStore(-1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeExtend() {
+    new EdgeStore(1).extend(-1);
+  }
+
+  @Test
+  public void extendGrowsTheList() {
+    EdgeStore edges = new EdgeStore(1);
+    edges.add(1, 2, 3, false);
+    edges.extend(3);
+    assertEquals(4, edges.size());
+    edges.set(3, 7, 8, 9, true);
+    edges.set(1, 4, 5, 6, false);
+    assertEdge(edges, 0, 1, 2, 3, false);
+    assertEdge(edges, 1, 4, 5, 6, false);
+    assertEquals(0L, edges.get(2));
+    assertEdge(edges, 3, 7, 8, 9, true);
+    edges.extend(0);
+    assertEquals(4, edges.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setPastTheEnd() {
+    EdgeStore edges = new EdgeStore(4);
+    edges.extend(2);
+    edges.set(2, 0, 1, 0, false);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setBeforeTheStart() {
+    EdgeStore edges = new EdgeStore(4);
+    edges.extend(2);
+    edges.set(-1, 0, 1, 0, false);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setChecksTheIds() {
+    EdgeStore edges = new EdgeStore(1);
+    edges.extend(1);
+    edges.set(0, EdgeStore.MAX_ID + 1, 0, 0, false);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setChecksTheWeight() {
+    EdgeStore edges = new EdgeStore(1);
+    edges.extend(1);
+    edges.set(0, 0, 1, 128, false);
+  }
+
+  @Test
+  public void addPackedCopiesAnotherList() {
+    EdgeStore from = new EdgeStore(0);
+    for (int i = 0; i < 100; i++) {
+      from.add(i, EdgeStore.MAX_ID - i, i % 128, i % 3 == 0);
+    }
+    //starting from no capacity makes the copy grow several times
+    EdgeStore to = new EdgeStore(0);
+    for (int i = 0; i < from.size(); i++) {
+      to.addPacked(from.get(i));
+    }
+    assertEquals(from.size(), to.size());
+    for (int i = 0; i < to.size(); i++) {
+      assertEquals(from.get(i), to.get(i));
+      assertEdge(to, i, i, EdgeStore.MAX_ID - i, i % 128, i % 3 == 0);
+    }
+  }
+
+  @Test
+  public void sortByWeightIsStable() {
+    EdgeStore edges = new EdgeStore(0);
+    int[] weights = {3, 0, 3, 1, 0, 3, 5};
+    for (int i = 0; i < weights.length; i++) {
+      edges.add(i, i + 1, weights[i], i == 2);
+    }
+    int[] bucketStart = edges.sortByWeight();
+    //buckets of weight 0 to 5, followed by the no of edges
+    assertArrayEquals(new int[] {0, 2, 3, 3, 6, 6, 7}, bucketStart);
+    int[] order = {1, 4, 3, 0, 2, 5, 6};
+    for (int i = 0; i < order.length; i++) {
+      assertEdge(edges, i, order[i], order[i] + 1, weights[order[i]], order[i] == 2);
+    }
+  }
+
+  @Test
+  public void sortEmptyList() {
+    assertArrayEquals(new int[] {0, 0}, new EdgeStore(0).sortByWeight());
+  }
+
+  @Test
+  public void wrapFlagReadsBack() {
+    EdgeStore edges = new EdgeStore(2);
+    edges.add(1, 2, 0, true);
+    edges.add(1, 2, 0, false);
+    assertTrue(edges.isWrap(0));
+    assertFalse(edges.isWrap(1));
+  }
+}
@@ -0,0 +1,127 @@
+package dungeon;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+
+import randomizer.SeededRandomizer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class to check that the start and end caves are the ones a search from every start in turn
+ * would pick. It lives in the package of the class, since the class is not part of the public API.
+ */
+public class StartEndSearchTest {
+
+  //the distances from the source, found without the search under test
+  private static int[] distances(GridTopology topology, int src) {
+    int[] distances = new int[topology.size()];
+    Arrays.fill(distances, -1);
+    distances[src] = 0;
+    Queue<Integer> queue = new ArrayDeque<>();
+    queue.add(src);
+    while (!queue.isEmpty()) {
+      int current = queue.remove();
+      for (Direction direction : Direction.VALUES) {
+        int next = topology.getNeighbor(current, direction);
+        if (next >= 0 && distances[next] < 0) {
+          distances[next] = distances[current] + 1;
+          queue.add(next);
+        }
+      }
+    }
+    return distances;
+  }
+
+  //the first start with a cave far enough away and the lowest such cave, or null
+  private static int[] expected(GridTopology topology, int[] starts) {
+    for (int start : starts) {
+      int[] distances = distances(topology, start);
+      for (int id = 0; id < topology.size(); id++) {
+        if (distances[id] >= StartEndSearch.MIN_DISTANCE
+                && topology.getLocationType(id) == LocationType.CAVE) {
+          return new int[] {start, id};
+        }
+      }
+    }
+    return null;
+  }
+
+  private static int[] caves(GridTopology topology, SeededRandomizer randomizer) {
+    int[] caves = new int[topology.size()];
+    int count = 0;
+    for (int id = 0; id < topology.size(); id++) {
+      if (topology.getLocationType(id) == LocationType.CAVE) {
+        caves[count++] = id;
+      }
+    }
+    caves = Arrays.copyOf(caves, count);
+    for (int i = count - 1; i > 0; i--) {
+      int k = randomizer.getNextInt(0, i + 1);
+      int swap = caves[i];
+      caves[i] = caves[k];
+      caves[k] = swap;
+    }
+    return caves;
+  }
+
+  private static int[] find(GridTopology topology, int[] starts) {
+    try {
+      return StartEndSearch.find(topology, starts);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  @Test
+  public void matchesEveryStartInTurn() {
+    int rejected = 0;
+    int laterStart = 0;
+    for (long seed = 1; seed <= 3000; seed++) {
+      SeededRandomizer randomizer = new SeededRandomizer(seed);
+      int rows = 1 + randomizer.getNextInt(0, 5);
+      int columns = 1 + randomizer.getNextInt(0, 6);
+      boolean wrapping = randomizer.getNextInt(0, 2) == 1;
+      int edges = rows * columns * (wrapping ? 2 : 1);
+      int interconnectivity = randomizer.getNextInt(0, Math.max(1, edges - rows * columns + 2));
+      GridTopology topology;
+      try {
+        topology = MazeGenerator.forName(MazeGenerator.KRUSKAL)
+                .generate(rows, columns, interconnectivity, wrapping, randomizer);
+      } catch (IllegalArgumentException e) {
+        continue;
+      }
+      int[] starts = caves(topology, randomizer);
+      int[] expected = starts.length < 2 || topology.size() <= StartEndSearch.MIN_DISTANCE
+              ? null : expected(topology, starts);
+      int[] actual = find(topology, starts);
+      assertArrayEquals("seed " + seed, expected, actual);
+      if (actual == null) {
+        rejected++;
+      } else if (actual[0] != starts[0]) {
+        laterStart++;
+      }
+    }
+    assertTrue(rejected > 0);
+    assertTrue(laterStart > 0);
+  }
+
+  @Test
+  public void longTunnelsDoNotMakeCavesFar() {
+    //a ring of tunnels with a dead end at one of its locations, the only caves are the two ends
+    //of the dead end, so no cave is far from another however long the ring is
+    GridTopology topology = new GridTopology(3, 40, true);
+    for (int column = 0; column < 40; column++) {
+      topology.open(40 + column, Direction.EAST);
+    }
+    topology.open(40, Direction.NORTH);
+    assertEquals(LocationType.CAVE, topology.getLocationType(0));
+    assertEquals(LocationType.CAVE, topology.getLocationType(40));
+    assertEquals(null, find(topology, new int[] {0, 40}));
+  }
+}
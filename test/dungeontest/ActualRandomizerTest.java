@@ -4,6 +4,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import dungeon.Dungeon;
@@ -12,6 +13,7 @@ import dungeon.Location;
 import randomizer.ActualRandomizer;
 import randomizer.Randomizer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -43,4 +45,56 @@ public class ActualRandomizerTest {
     //call shuffle method, the elements should get shuffled
     assertNotEquals(list, randomGenerator.shuffleList(list));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void partialShuffle() {
+    int[] values = new int[100];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i;
+    }
+    randomGenerator.partialShuffle(values, 10);
+    //the values are only reordered, none of them is lost
+    int[] sorted = values.clone();
+    Arrays.sort(sorted);
+    for (int i = 0; i < sorted.length; i++) {
+      assertEquals(i, sorted[i]);
+    }
+    //the sample is taken from the whole array and not only from its beginning
+    boolean sampledLater = false;
+    for (int i = 0; i < 10; i++) {
+      sampledLater |= values[i] >= 10;
+    }
+    assertTrue(sampledLater);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void partialShuffleNegativeSample() {
+    randomGenerator.partialShuffle(new int[] {0, 1}, -1);
+  }
+
+  @Test
+  public void sampleWithoutReplacement() {
+    int[] sample = randomGenerator.sampleWithoutReplacement(100, 20);
+    assertEquals(20, sample.length);
+    boolean[] seen = new boolean[100];
+    for (int value : sample) {
+      assertTrue(value >= 0 && value < 100);
+      assertTrue(!seen[value]);
+      seen[value] = true;
+    }
+  }
+
+  @Test
+  public void fillInts() {
+    int[] values = new int[50];
+    randomGenerator.fillInts(values, 1, 4);
+    for (int value : values) {
+      assertTrue(1 <= value && value < 4);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void fillIntsNull() {
+    randomGenerator.fillInts(null, 1, 4);
+  }
+}
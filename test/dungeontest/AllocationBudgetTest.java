@@ -0,0 +1,195 @@
+package dungeontest;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import controller.GameText;
+import dungeon.Direction;
+import dungeon.Dungeon;
+import dungeon.DungeonImpl;
+import dungeon.GridDungeon;
+import dungeon.Location;
+import dungeon.ShotOutcome;
+import randomizer.FixedRandomizer;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Test to hold the operations of a turn to a budget of bytes allocated per operation, for both
+ * dungeon models. An operation that starts to allocate more than its budget fails the test.
+ */
+@RunWith(Parameterized.class)
+public class AllocationBudgetTest {
+
+  private static final long MOVE_BUDGET = 64;
+  private static final long DESCRIBED_MOVE_BUDGET = 256;
+  private static final long SHOT_BUDGET = 64;
+  private static final long PICKUP_BUDGET = 32;
+  private static final long TAKEN_PICKUP_BUDGET = 320;
+  private static final long LANDED_SHOT_BUDGET = 512;
+  private static final long RESET_BUDGET = 128;
+  private static final long SMELL_BUDGET = 16;
+  private static final long QUERY_BUDGET = 16;
+
+  private final String model;
+  private Dungeon dungeon;
+  private Direction away;
+  private Direction back;
+
+  /**
+   * Constructs the test of a model.
+   *
+   * @param model the name of the dungeon model
+   */
+  public AllocationBudgetTest(String model) {
+    this.model = model;
+  }
+
+  /**
+   * This method provides the models under test.
+   *
+   * @return the names of the models
+   */
+  @Parameterized.Parameters(name = "{0}")
+  public static Collection<Object[]> models() {
+    return Arrays.asList(new Object[][]{{"impl"}, {"grid"}});
+  }
+
+  @Before
+  public void setUp() {
+    assumeTrue(AllocationMeter.isSupported());
+    dungeon = model.equals("impl")
+            ? new DungeonImpl(5, 7, 4, 20, false, 5, new FixedRandomizer(2))
+            : new GridDungeon(5, 4, 2, 20, false, 5, new FixedRandomizer(2));
+    //a door from the start to a location without an Otyugh, to move through and back
+    for (Map.Entry<Direction, Location> door
+            : dungeon.getPlayer().getCurrentLocation().getNeighbors().entrySet()) {
+      if (!door.getValue().hasMonster()) {
+        away = door.getKey();
+      }
+    }
+    back = away.getOpposite();
+  }
+
+  private static void assertWithin(long budget, long allocated) {
+    assertTrue("allocated " + allocated + " bytes, the budget is " + budget,
+            allocated <= budget);
+  }
+
+  @Test
+  public void move() {
+    assertWithin(2 * MOVE_BUDGET, AllocationMeter.bytesPerOperation(() -> {
+      dungeon.move(away);
+      dungeon.move(back);
+    }));
+  }
+
+  @Test
+  public void describedMove() {
+    String there = away.getDirection().substring(0, 1);
+    String home = back.getDirection().substring(0, 1);
+    assertWithin(2 * DESCRIBED_MOVE_BUDGET, AllocationMeter.bytesPerOperation(() -> {
+      GameText.nextMove(dungeon, there);
+      GameText.nextMove(dungeon, home);
+    }));
+  }
+
+  @Test
+  public void shotIntoTheWall() {
+    //an arrow that reaches a wall is not used up, so every shot travels the same way
+    assertWithin(SHOT_BUDGET,
+            AllocationMeter.bytesPerOperation(() -> dungeon.shoot(50, away)));
+    String there = away.getDirection().substring(0, 1);
+    assertWithin(SHOT_BUDGET,
+            AllocationMeter.bytesPerOperation(() -> GameText.shootArrow(dungeon, 50, there)));
+  }
+
+  @Test
+  public void shotIntoAnOtyugh() {
+    Direction target = null;
+    for (Direction direction : Direction.values()) {
+      if (target == null && dungeon.shoot(1, direction) == ShotOutcome.INJURED) {
+        target = direction;
+      }
+      dungeon.reset();
+    }
+    assertNotNull(target);
+    Direction otyugh = target;
+    String there = otyugh.getDirection().substring(0, 1);
+    //the reset heals the Otyugh and gives the arrow back for the next shot, so its own cost is
+    //taken away, which leaves the shot and the copy of the cave the reset puts back
+    long reset = AllocationMeter.bytesPerOperation(dungeon::reset);
+    long shot = AllocationMeter.bytesPerOperation(() -> {
+      dungeon.shoot(1, otyugh);
+      dungeon.reset();
+    });
+    long describedShot = AllocationMeter.bytesPerOperation(() -> {
+      GameText.shootArrow(dungeon, 1, there);
+      dungeon.reset();
+    });
+    assertWithin(LANDED_SHOT_BUDGET, shot - reset);
+    assertWithin(LANDED_SHOT_BUDGET, describedShot - reset);
+  }
+
+  @Test
+  public void pickupThatTakes() {
+    //the start cave has treasure and arrows, and the reset puts them back for the next pickup,
+    //so its own cost is taken away like for the shot
+    assertTrue(dungeon.takeTreasure() > 0);
+    assertTrue(dungeon.takeArrows() > 0);
+    dungeon.reset();
+    long reset = AllocationMeter.bytesPerOperation(dungeon::reset);
+    long taken = AllocationMeter.bytesPerOperation(() -> {
+      dungeon.takeTreasure();
+      dungeon.takeArrows();
+      dungeon.reset();
+    });
+    long described = AllocationMeter.bytesPerOperation(() -> {
+      GameText.pickTreasure(dungeon);
+      GameText.pickArrow(dungeon);
+      dungeon.reset();
+    });
+    assertWithin(2 * TAKEN_PICKUP_BUDGET, taken - reset);
+    assertWithin(2 * TAKEN_PICKUP_BUDGET, described - reset);
+  }
+
+  @Test
+  public void reset() {
+    assertWithin(RESET_BUDGET, AllocationMeter.bytesPerOperation(dungeon::reset));
+  }
+
+  @Test
+  public void pickup() {
+    //the pickups measured here are the ones that find nothing left
+    GameText.pickTreasure(dungeon);
+    GameText.pickArrow(dungeon);
+    assertWithin(PICKUP_BUDGET,
+            AllocationMeter.bytesPerOperation(() -> GameText.pickTreasure(dungeon)));
+    assertWithin(PICKUP_BUDGET,
+            AllocationMeter.bytesPerOperation(() -> GameText.pickArrow(dungeon)));
+    assertWithin(PICKUP_BUDGET, AllocationMeter.bytesPerOperation(dungeon::takeTreasure));
+    assertWithin(PICKUP_BUDGET, AllocationMeter.bytesPerOperation(dungeon::takeArrows));
+  }
+
+  @Test
+  public void playerQueries() {
+    assertWithin(QUERY_BUDGET, AllocationMeter.bytesPerOperation(() -> {
+      dungeon.getPlayerLocationId();
+      dungeon.getPlayerArrowCount();
+      dungeon.isPlayerAlive();
+    }));
+  }
+
+  @Test
+  public void smell() {
+    assertWithin(SMELL_BUDGET, AllocationMeter.bytesPerOperation(dungeon::checkSmell));
+  }
+}
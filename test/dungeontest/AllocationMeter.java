@@ -0,0 +1,51 @@
+package dungeontest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * A helper to measure the bytes the current thread allocates while it runs an operation, so a test
+ * can hold an operation to a budget of allocated bytes the way it holds it to a result. The
+ * operation is run many times first, so the measurement is taken of the compiled code.
+ */
+public final class AllocationMeter {
+
+  private static final int WARMUP = 20000;
+  private static final int OPERATIONS = 10000;
+
+  private AllocationMeter() {
+  }
+
+  /**
+   * This method checks if the virtual machine counts the bytes allocated by a thread.
+   *
+   * @return true when the allocations can be measured
+   */
+  public static boolean isSupported() {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    return threads instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()
+            && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemoryEnabled();
+  }
+
+  /**
+   * This method provides the average no of bytes an operation allocates on the current thread.
+   *
+   * @param operation the operation, which should leave the state as it found it so every run does
+   *                  the same work
+   * @return the bytes allocated by one run of the operation
+   */
+  public static long bytesPerOperation(Runnable operation) {
+    com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    for (int i = 0; i < WARMUP; i++) {
+      operation.run();
+    }
+    long id = Thread.currentThread().getId();
+    long before = threads.getThreadAllocatedBytes(id);
+    for (int i = 0; i < OPERATIONS; i++) {
+      operation.run();
+    }
+    return (threads.getThreadAllocatedBytes(id) - before) / OPERATIONS;
+  }
+}
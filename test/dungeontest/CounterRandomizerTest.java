@@ -0,0 +1,109 @@
+package dungeontest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import dungeon.Dungeon;
+import dungeon.DungeonImpl;
+import dungeon.GridDungeon;
+import randomizer.CounterRandomizer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class to check all the implementation of the counter based random class, where every
+ * number is worked out from its key.
+ */
+public class CounterRandomizerTest {
+
+  private CounterRandomizer<Integer> randomGenerator;
+
+  @Before
+  public void setUp() {
+    randomGenerator = new CounterRandomizer<>(42);
+  }
+
+  @Test
+  public void getInt() {
+    for (int i = 0; i < 100; i++) {
+      int value = randomGenerator.getInt(1, i, 0, 2, 4);
+      assertTrue(2 <= value && value < 4);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getIntEmptyRange() {
+    randomGenerator.getInt(1, 0, 0, 4, 4);
+  }
+
+  @Test
+  public void keyedNumbersDoNotDependOnOrder() {
+    long[] forward = new long[20];
+    for (int i = 0; i < forward.length; i++) {
+      forward[i] = randomGenerator.getBits(3, i, 1);
+    }
+    CounterRandomizer<Integer> other = new CounterRandomizer<>(42);
+    //numbers taken from the sequence first do not move the keyed numbers
+    other.getNextInt(0, 10);
+    other.fillInts(new int[5], 0, 10);
+    for (int i = forward.length - 1; i >= 0; i--) {
+      assertEquals(forward[i], other.getBits(3, i, 1));
+    }
+    assertNotEquals(randomGenerator.getBits(3, 0, 1), randomGenerator.getBits(4, 0, 1));
+    assertNotEquals(randomGenerator.getBits(3, 0, 1), randomGenerator.getBits(3, 0, 2));
+    assertNotEquals(randomGenerator.getBits(3, 0, 1),
+            new CounterRandomizer<Integer>(43).getBits(3, 0, 1));
+  }
+
+  @Test
+  public void sequenceIsRepeatable() {
+    int[] first = new int[30];
+    int[] second = new int[30];
+    new CounterRandomizer<Integer>(7).fillInts(first, 0, 1000);
+    CounterRandomizer<Integer> other = new CounterRandomizer<>(7);
+    for (int i = 0; i < second.length; i++) {
+      second[i] = other.getNextInt(0, 1000);
+    }
+    assertTrue(Arrays.equals(first, second));
+  }
+
+  @Test
+  public void sampleWithoutReplacement() {
+    int[] sample = randomGenerator.sampleWithoutReplacement(30, 30);
+    Arrays.sort(sample);
+    for (int i = 0; i < sample.length; i++) {
+      assertEquals(i, sample[i]);
+    }
+  }
+
+  @Test
+  public void dungeonDoesNotDependOnEarlierDraws() {
+    Dungeon first = new DungeonImpl(8, 9, 5, 30,
+            true, 6, new CounterRandomizer(2021));
+    CounterRandomizer used = new CounterRandomizer(2021);
+    used.getNextInt(0, 100);
+    used.shuffleList(Arrays.asList(1, 2, 3));
+    Dungeon second = new DungeonImpl(8, 9, 5, 30,
+            true, 6, used);
+    assertEquals(first.toString(), second.toString());
+    assertEquals(first.getStartCave().getId(), second.getStartCave().getId());
+    assertEquals(first.getEndCave().getId(), second.getEndCave().getId());
+
+    Dungeon grid = new GridDungeon(8, 9, 5, 30,
+            true, 6, new CounterRandomizer(2021));
+    assertEquals(first.toString(), grid.toString());
+  }
+
+  @Test
+  public void seedChangesDungeon() {
+    Dungeon first = new GridDungeon(8, 9, 5, 30,
+            true, 6, new CounterRandomizer(1));
+    Dungeon second = new GridDungeon(8, 9, 5, 30,
+            true, 6, new CounterRandomizer(2));
+    assertNotEquals(first.toString(), second.toString());
+  }
+}
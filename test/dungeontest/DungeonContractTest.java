@@ -0,0 +1,303 @@
+package dungeontest;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import controller.GameText;
+import dungeon.Direction;
+import dungeon.Dungeon;
+import dungeon.DungeonImpl;
+import dungeon.GridDungeon;
+import dungeon.Location;
+import dungeon.MoveOutcome;
+import dungeon.SmellType;
+import randomizer.FixedRandomizer;
+import randomizer.Randomizer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test to check the behaviour both dungeon models share, the searches, the smell, the start and
+ * end caves, the reset and the outcomes of a turn. The checks of a single model stay in the test
+ * of that model.
+ */
+@RunWith(Parameterized.class)
+public class DungeonContractTest {
+
+  private final String model;
+  private Dungeon dungeon;
+
+  /**
+   * Constructs the test of a model.
+   *
+   * @param model the name of the dungeon model
+   */
+  public DungeonContractTest(String model) {
+    this.model = model;
+  }
+
+  /**
+   * This method provides the models under test.
+   *
+   * @return the names of the models
+   */
+  @Parameterized.Parameters(name = "{0}")
+  public static Collection<Object[]> models() {
+    return Arrays.asList(new Object[][]{{"impl"}, {"grid"}});
+  }
+
+  private Dungeon create(int rows, int columns, int interconnectivity, int treasurePercent,
+                         boolean wrapping, int monsterCount, Randomizer randomizer) {
+    return model.equals("impl")
+            ? new DungeonImpl(rows, columns, interconnectivity, treasurePercent, wrapping,
+                    monsterCount, randomizer)
+            : new GridDungeon(rows, columns, interconnectivity, treasurePercent, wrapping,
+                    monsterCount, randomizer);
+  }
+
+  //the dungeon of the setup of each model, so a twin of it plays the same game
+  private Dungeon create() {
+    return model.equals("impl")
+            ? create(5, 7, 4, 20, false, 5, new FixedRandomizer(2))
+            : create(5, 4, 2, 20, false, 5, new FixedRandomizer(2));
+  }
+
+  @Before
+  public void setUp() {
+    dungeon = create();
+  }
+
+  @Test
+  public void distancesMatchBfs() {
+    dungeon = create(5, 4, 2, 20, false, 5, new FixedRandomizer(2));
+    Location start = dungeon.getStartCave();
+    int[] distances = dungeon.getDistances(start.getId());
+    Map<Location, Integer> level = dungeon.bfs(start);
+    assertEquals(20, distances.length);
+    for (Map.Entry<Location, Integer> entry : level.entrySet()) {
+      assertEquals((int) entry.getValue(), distances[entry.getKey().getId()]);
+    }
+    assertEquals(0, distances[start.getId()]);
+    assertTrue(distances[dungeon.getEndCave().getId()] >= 5);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void distancesInvalidCave() {
+    dungeon.getDistances(-1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void distancesOutsideDungeon() {
+    dungeon.getDistances(dungeon.getLocationList().size());
+  }
+
+  @Test
+  public void bfsKeepsVisits() {
+    dungeon.getLocationList().get(3).updateVisit(true);
+    dungeon.bfs(dungeon.getStartCave());
+    dungeon.getDistances(0);
+    assertTrue(dungeon.getLocationList().get(3).isVisited());
+    assertFalse(dungeon.getLocationList().get(4).isVisited());
+  }
+
+  @Test
+  public void smellMatchesDistancesAfterMoves() {
+    Dungeon d = create(6, 6, 6, 20, true, 12, new FixedRandomizer(2, 3, 4));
+    String[] moves = {"North", "East", "South", "West"};
+    for (int i = 0; i < 40 && d.getPlayer().isAlive() && !d.hasReachedEnd(); i++) {
+      assertEquals(expectedSmell(d), d.checkSmell());
+      GameText.shootArrow(d, 1, moves[(i + 1) % 4].substring(0, 1));
+      for (int k = 0; k < moves.length; k++) {
+        String move = moves[(i + k) % 4];
+        if (d.getNextPossibleDescription().contains(move)) {
+          GameText.nextMove(d, move.substring(0, 1));
+          break;
+        }
+      }
+    }
+  }
+
+  @Test
+  public void smellFollowsOtyughsChangedThroughTheLocations() {
+    Dungeon d = create(5, 7, 4, 20, false, 1, new FixedRandomizer(2));
+    assertEquals(expectedSmell(d), d.checkSmell());
+    Location next = d.getLocationList().get(d.getPlayerLocationId()).getNeighbors().values()
+            .iterator().next();
+    next.addMonster();
+    assertEquals(SmellType.HIGH, d.checkSmell());
+    assertEquals(expectedSmell(d), d.checkSmell());
+    next.hitMonster();
+    assertEquals(SmellType.HIGH, d.checkSmell());
+    next.hitMonster();
+    assertEquals(expectedSmell(d), d.checkSmell());
+    for (Location l : d.getLocationList()) {
+      if (!l.hasMonster()) {
+        l.addMonster();
+        assertEquals(expectedSmell(d), d.checkSmell());
+      }
+    }
+    d.reset();
+    assertEquals(expectedSmell(d), d.checkSmell());
+  }
+
+  @Test
+  public void neighborsWithinMatchDistances() {
+    Dungeon d = create(6, 6, 6, 20, true, 12, new FixedRandomizer(2, 3, 4));
+    int start = d.getStartCave().getId();
+    int[] distances = d.getDistances(start);
+    for (int radius = 0; radius <= 6; radius++) {
+      int[] within = d.neighborsWithin(start, radius);
+      int expected = 0;
+      for (int distance : distances) {
+        if (distance > 0 && distance <= radius) {
+          expected++;
+        }
+      }
+      assertEquals(expected, within.length);
+      for (int i = 0; i < within.length; i++) {
+        assertTrue(distances[within[i]] > 0 && distances[within[i]] <= radius);
+        if (i > 0) {
+          assertTrue(distances[within[i - 1]] <= distances[within[i]]);
+        }
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void neighborsWithinNegativeRadius() {
+    dungeon.neighborsWithin(0, -1);
+  }
+
+  @Test
+  public void startEndInSingleRow() {
+    Dungeon d = create(1, 6, 0, 20, false, 1, new FixedRandomizer(2));
+    assertEquals(5, d.getDistances(d.getStartCave().getId())[d.getEndCave().getId()]);
+    assertEquals(0, d.getStartCave().getId());
+    assertEquals(5, d.getEndCave().getId());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void startEndTooShortRow() {
+    create(1, 5, 0, 20, false, 1, new FixedRandomizer(2));
+  }
+
+  //smell worked out from the distances of every live Otyugh to the player
+  private SmellType expectedSmell(Dungeon d) {
+    int[] distances = d.getDistances(d.getPlayer().getCurrentLocation().getId());
+    int count = 0;
+    for (Location l : d.getLocationList()) {
+      if (l.hasMonster() && l.getMonster().getHealth() > 0) {
+        if (distances[l.getId()] == 1) {
+          return SmellType.HIGH;
+        } else if (distances[l.getId()] == 2) {
+          count++;
+        }
+      }
+    }
+    return count >= 2 ? SmellType.HIGH : count == 1 ? SmellType.LOW : SmellType.NONE;
+  }
+
+  //the content of every location and the player, as the game sees it
+  private String state(Dungeon maze) {
+    StringBuilder sb = new StringBuilder(maze.toString());
+    for (Location l : maze.getLocationList()) {
+      sb.append(l.getTreasureList()).append(l.getArrow()).append(l.isVisited())
+              .append(l.hasMonster() ? l.getMonster().getHealth() : -1);
+    }
+    return sb.append(maze.getPlayerDescription()).append(maze.checkSmell()).toString();
+  }
+
+  @Test
+  public void resetRestoresContent() {
+    String initial = state(dungeon);
+    GameText.pickTreasure(dungeon);
+    GameText.pickArrow(dungeon);
+    GameText.shootArrow(dungeon, 1, "E");
+    GameText.shootArrow(dungeon, 1, "E");
+    GameText.nextMove(dungeon, "E");
+    dungeon.getLocationList().get(0).updateVisit(true);
+    dungeon.getLocationList().get(3).addArrow(7);
+    assertNotEquals(initial, state(dungeon));
+
+    dungeon.reset();
+    assertEquals(initial, state(dungeon));
+    assertEquals("\n" + "Player shot the monster, monster is injured",
+            GameText.shootArrow(dungeon, 1, "E"));
+    dungeon.reset();
+    assertEquals(initial, state(dungeon));
+  }
+
+  @Test
+  public void resetWithoutChanges() {
+    String initial = state(dungeon);
+    dungeon.reset();
+    assertEquals(initial, state(dungeon));
+  }
+
+  @Test
+  public void outcomesMatchDescriptions() {
+    Dungeon twin = create();
+    String[] shots = {"E", "E", "N", "E", "E"};
+    for (String dir : shots) {
+      String text = GameText.shootArrow(dungeon, 1, dir);
+      assertEquals(text, GameText.shot(twin.shoot(1, direction(dir))));
+      assertEquals(state(dungeon), state(twin));
+    }
+    String[] moves = {"N", "E", "S", "S", "W", "E", "E", "N", "S", "E", "S", "W", "S", "E"};
+    for (int i = 0; i < moves.length && dungeon.getPlayer().isAlive(); i++) {
+      String text = GameText.nextMove(dungeon, moves[i]);
+      MoveOutcome outcome = twin.move(direction(moves[i]));
+      assertEquals(text, GameText.move(outcome, moves[i], twin.getPlayerLocationId()));
+      assertEquals(state(dungeon), state(twin));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void moveNullDirection() {
+    dungeon.move(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shootZeroDistance() {
+    dungeon.shoot(0, Direction.EAST);
+  }
+
+  private static Direction direction(String dir) {
+    for (Direction d : Direction.values()) {
+      if (d.getDirection().startsWith(dir)) {
+        return d;
+      }
+    }
+    throw new IllegalArgumentException(dir);
+  }
+
+  @Test
+  public void takePickupsCount() {
+    int treasures = dungeon.getPlayer().getCurrentLocation().getTreasureList().size();
+    int arrows = dungeon.getPlayer().getCurrentLocation().getArrow();
+    assertEquals(treasures, dungeon.takeTreasure());
+    assertEquals(0, dungeon.takeTreasure());
+    assertEquals(treasures, dungeon.getPlayer().getTreasureList().size());
+    assertEquals(arrows, dungeon.takeArrows());
+    assertEquals(0, dungeon.takeArrows());
+    assertEquals(3 + arrows, dungeon.getPlayerArrowCount());
+  }
+
+  @Test
+  public void playerQueries() {
+    assertEquals(dungeon.getPlayer().getCurrentLocation().getId(),
+            dungeon.getPlayerLocationId());
+    assertEquals(3, dungeon.getPlayerArrowCount());
+    assertTrue(dungeon.isPlayerAlive());
+  }
+
+}
@@ -0,0 +1,252 @@
+package dungeontest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import dungeon.Direction;
+import dungeon.DungeonConfig;
+import dungeon.DungeonLayout;
+import dungeon.GridDungeon;
+import dungeon.ShotOutcome;
+import dungeon.env.DungeonEnv;
+import randomizer.SeededRandomizer;
+import randomizer.SplitMix;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test to check the batch of dungeon games stepped together.
+ */
+public class DungeonEnvTest {
+
+  private static final DungeonConfig CONFIG = new DungeonConfig(6, 8, 2, 40, false, 4);
+
+  private DungeonEnv env;
+
+  @Before
+  public void setUp() {
+    env = new DungeonEnv(CONFIG, 16, 8, 100, 3, 1);
+  }
+
+  @After
+  public void tearDown() {
+    env.close();
+  }
+
+  private static int[][] randomActions(int steps, int envs, long seed) {
+    Random random = new Random(seed);
+    int[][] actions = new int[steps][envs];
+    for (int[] step : actions) {
+      for (int i = 0; i < envs; i++) {
+        step[i] = random.nextInt(DungeonEnv.ACTION_COUNT);
+      }
+    }
+    return actions;
+  }
+
+  @Test
+  public void resetStartsWithThreeArrows() {
+    int[] observations = env.reset();
+    assertEquals(16 * DungeonEnv.OBSERVATION_SIZE, observations.length);
+    for (int i = 0; i < 16; i++) {
+      assertEquals(3, observations[i * DungeonEnv.OBSERVATION_SIZE + 3]);
+      assertTrue(observations[i * DungeonEnv.OBSERVATION_SIZE + 1] > 0);
+      assertEquals(0, env.getTreasure(i));
+    }
+  }
+
+  @Test
+  public void movesFollowTheDoors() {
+    int[] before = env.reset().clone();
+    int[] actions = new int[16];
+    Arrays.fill(actions, DungeonEnv.move(Direction.NORTH));
+    int[] after = env.step(actions);
+    for (int i = 0; i < 16; i++) {
+      int o = i * DungeonEnv.OBSERVATION_SIZE;
+      boolean open = (before[o + 1] & (1 << Direction.NORTH.ordinal())) != 0;
+      if (!open) {
+        assertEquals(before[o], after[o]);
+        assertFalse(env.getDones()[i]);
+      } else if (!env.getDones()[i]) {
+        assertEquals((before[o] + 48 - 8) % 48, after[o]);
+      }
+    }
+  }
+
+  @Test
+  public void gamesEndWithRewards() {
+    //moves through an open door, and shoots through it first when the smell is high
+    Random random = new Random(1);
+    int[] actions = new int[16];
+    int wins = 0;
+    int losses = 0;
+    for (int step = 0; step < 2000; step++) {
+      int[] observations = env.getObservations();
+      for (int i = 0; i < 16; i++) {
+        int o = i * DungeonEnv.OBSERVATION_SIZE;
+        Direction direction;
+        do {
+          direction = Direction.values()[random.nextInt(4)];
+        } while ((observations[o + 1] & (1 << direction.ordinal())) == 0);
+        actions[i] = observations[o + 2] == 2 && observations[o + 3] > 0 && random.nextBoolean()
+                ? DungeonEnv.shoot(1, direction) : DungeonEnv.move(direction);
+      }
+      env.step(actions);
+      for (int i = 0; i < 16; i++) {
+        float reward = env.getRewards()[i];
+        if (reward != 0) {
+          assertTrue(env.getDones()[i]);
+          assertFalse(env.getTruncated()[i]);
+        }
+        wins += reward == DungeonEnv.WIN_REWARD ? 1 : 0;
+        losses += reward == DungeonEnv.LOSS_REWARD ? 1 : 0;
+      }
+    }
+    assertTrue(wins > 0);
+    assertTrue(losses > 0);
+  }
+
+  //the grid dungeon of an episode, created the way the environment creates it
+  private static GridDungeon episode(DungeonConfig config, long seed, int e) {
+    SeededRandomizer<Object> randomizer = new SeededRandomizer<>(
+            SplitMix.mix(seed + SplitMix.GOLDEN_GAMMA * (e + 1)));
+    DungeonLayout layout = DungeonLayout.create(config.getRows(), config.getColumns(),
+            config.getInterconnectivity(), config.isWrapping(), config.getGenerator(), randomizer);
+    return new GridDungeon(layout, config.getTreasurePercent(), config.getMonsterCount(),
+            randomizer);
+  }
+
+  @Test
+  public void smellMatchesTheDungeon() {
+    DungeonConfig config = new DungeonConfig(6, 8, 4, 40, true, 8);
+    int games = 16;
+    try (DungeonEnv same = new DungeonEnv(config, games, games, 1000, 9, 1)) {
+      GridDungeon[] dungeons = new GridDungeon[games];
+      boolean[] playing = new boolean[games];
+      for (int e = 0; e < games; e++) {
+        dungeons[e] = episode(config, 9, e);
+        playing[e] = true;
+      }
+      int[] observations = same.reset();
+      int[] actions = new int[games];
+      Random random = new Random(4);
+      int kills = 0;
+      for (int step = 0; step < 300; step++) {
+        for (int i = 0; i < games; i++) {
+          int o = i * DungeonEnv.OBSERVATION_SIZE;
+          if (playing[i]) {
+            assertEquals(dungeons[i].getPlayerLocationId(), observations[o]);
+            assertEquals(dungeons[i].checkSmell().ordinal(), observations[o + 2]);
+          }
+          Direction door;
+          do {
+            door = Direction.values()[random.nextInt(4)];
+          } while ((observations[o + 1] & (1 << door.ordinal())) == 0);
+          boolean shot = observations[o + 3] > 0 && random.nextBoolean();
+          int distance = 1 + random.nextInt(2);
+          actions[i] = shot ? DungeonEnv.shoot(distance, door) : DungeonEnv.move(door);
+          if (playing[i]) {
+            if (shot) {
+              kills += dungeons[i].shoot(distance, door) == ShotOutcome.KILLED ? 1 : 0;
+            } else {
+              dungeons[i].move(door);
+            }
+          }
+        }
+        observations = same.step(actions);
+        for (int i = 0; i < games; i++) {
+          //an escape is drawn from different streams, so the games part when it differs
+          playing[i] = playing[i] && !same.getDones()[i] && dungeons[i].isPlayerAlive()
+                  && !dungeons[i].hasReachedEnd() && dungeons[i].getPlayerLocationId()
+                  == observations[i * DungeonEnv.OBSERVATION_SIZE];
+        }
+      }
+      assertTrue(kills > 0);
+    }
+  }
+
+  @Test
+  public void gamesStopAtTheTurnLimit() {
+    try (DungeonEnv short3 = new DungeonEnv(CONFIG, 4, 2, 3, 3, 1)) {
+      int[] actions = new int[4];
+      Arrays.fill(actions, DungeonEnv.PICK_TREASURE);
+      short3.step(actions);
+      short3.step(actions);
+      assertFalse(short3.getDones()[0]);
+      short3.step(actions);
+      for (int i = 0; i < 4; i++) {
+        assertTrue(short3.getDones()[i]);
+        assertTrue(short3.getTruncated()[i]);
+        assertEquals(0f, short3.getRewards()[i], 0f);
+        assertEquals(0, short3.getTreasure(i));
+      }
+    }
+  }
+
+  @Test
+  public void stepsAreRepeatable() {
+    int[][] actions = randomActions(200, 16, 2);
+    try (DungeonEnv twin = new DungeonEnv(CONFIG, 16, 8, 100, 3, 1)) {
+      for (int[] step : actions) {
+        assertArrayEquals(env.step(step), twin.step(step));
+        assertArrayEquals(env.getRewards(), twin.getRewards(), 0f);
+      }
+    }
+  }
+
+  @Test
+  public void stepsDoNotDependOnThreadCount() {
+    int envs = 2048;
+    int[][] actions = randomActions(50, envs, 3);
+    try (DungeonEnv one = new DungeonEnv(CONFIG, envs, 64, 30, 9, 1);
+         DungeonEnv several = new DungeonEnv(CONFIG, envs, 64, 30, 9, 4)) {
+      for (int[] step : actions) {
+        assertArrayEquals(one.step(step), several.step(step));
+        assertArrayEquals(one.getDones(), several.getDones());
+      }
+    }
+  }
+
+  @Test
+  public void shotActions() {
+    assertEquals(4 + Direction.EAST.ordinal(), DungeonEnv.shoot(1, Direction.EAST));
+    assertTrue(DungeonEnv.shoot(DungeonEnv.MAX_SHOT_DISTANCE, Direction.WEST)
+            < DungeonEnv.PICK_TREASURE);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shotTooFar() {
+    DungeonEnv.shoot(DungeonEnv.MAX_SHOT_DISTANCE + 1, Direction.WEST);
+  }
+
+  @Test
+  public void unknownActionChangesNothing() {
+    int[] before = env.reset().clone();
+    int[] actions = new int[16];
+    actions[15] = DungeonEnv.ACTION_COUNT;
+    try {
+      env.step(actions);
+    } catch (IllegalArgumentException e) {
+      assertArrayEquals(before, env.getObservations());
+      return;
+    }
+    throw new AssertionError("unknown action was stepped");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void wrongNoOfActions() {
+    env.step(new int[3]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidConfig() {
+    new DungeonEnv(new DungeonConfig(5, 5, 100, 20, false, 2), 4, 2, 10, 1, 1);
+  }
+}
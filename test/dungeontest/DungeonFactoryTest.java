@@ -0,0 +1,132 @@
+package dungeontest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import dungeon.Dungeon;
+import dungeon.DungeonConfig;
+import dungeon.DungeonFactory;
+import randomizer.SeededRandomizer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+
+/**
+ * Test to check the dungeon factory and its pools of ready dungeons.
+ */
+public class DungeonFactoryTest {
+
+  private static final DungeonConfig CONFIG = new DungeonConfig(10, 12, 4, 30, true, 3);
+
+  private DungeonFactory factory;
+
+  @Before
+  public void setUp() {
+    AtomicLong seed = new AtomicLong();
+    factory = new DungeonFactory(3, 2, 60000,
+            () -> new SeededRandomizer<>(seed.incrementAndGet()));
+  }
+
+  @After
+  public void tearDown() {
+    factory.close();
+  }
+
+  //waits for the pool of the configuration to hold the given no of dungeons
+  private void awaitAvailable(DungeonConfig config, int count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 20000;
+    while (factory.available(config) < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+    assertEquals(count, factory.available(config));
+  }
+
+  @Test
+  public void takeCreatesDungeonOfConfig() {
+    Dungeon dungeon = factory.take(CONFIG);
+    assertEquals(120, dungeon.getLocationList().size());
+  }
+
+  @Test
+  public void poolIsFilledInBackground() throws InterruptedException {
+    assertEquals(0, factory.available(CONFIG));
+    factory.prefetch(CONFIG);
+    awaitAvailable(CONFIG, 3);
+  }
+
+  @Test
+  public void takeComesFromPoolAndIsReplaced() throws InterruptedException {
+    factory.prefetch(CONFIG);
+    awaitAvailable(CONFIG, 3);
+    Dungeon first = factory.take(CONFIG);
+    Dungeon second = factory.take(CONFIG);
+    assertNotSame(first, second);
+    assertNotEquals(first.toString(), second.toString());
+    awaitAvailable(CONFIG, 3);
+  }
+
+  @Test
+  public void configsHaveTheirOwnPools() throws InterruptedException {
+    DungeonConfig other = new DungeonConfig(6, 8, 0, 20, false, 1, "eller");
+    factory.prefetch(other);
+    awaitAvailable(other, 3);
+    assertEquals(0, factory.available(CONFIG));
+    assertEquals(48, factory.take(other).getLocationList().size());
+  }
+
+  @Test
+  public void equalConfigsShareThePool() throws InterruptedException {
+    factory.prefetch(CONFIG);
+    awaitAvailable(new DungeonConfig(10, 12, 4, 30, true, 3, "kruskal"), 3);
+  }
+
+  @Test
+  public void idleConfigIsEvicted() throws InterruptedException {
+    factory.close();
+    factory = new DungeonFactory(2, 1, 50, () -> new SeededRandomizer<>(1));
+    factory.prefetch(CONFIG);
+    Thread.sleep(60);
+    factory.evictIdle();
+    assertEquals(0, factory.available(CONFIG));
+  }
+
+  @Test
+  public void usedConfigIsKept() {
+    factory.take(CONFIG);
+    assertEquals(0, factory.evictIdle());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidConfig() {
+    factory.take(new DungeonConfig(0, 12, 4, 30, true, 3));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nullConfig() {
+    factory.take(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidPoolSize() {
+    new DungeonFactory(0, 1, 1000, () -> new SeededRandomizer<>(1));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void closedFactory() {
+    factory.close();
+    factory.take(CONFIG);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidConfigIsReportedOnTake() throws InterruptedException {
+    DungeonConfig invalid = new DungeonConfig(5, 5, 100, 30, false, 3);
+    factory.prefetch(invalid);
+    Thread.sleep(50);
+    assertEquals(0, factory.available(invalid));
+    factory.take(invalid);
+  }
+}
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import controller.GameText;
 import dungeon.Direction;
 import dungeon.Dungeon;
 import dungeon.DungeonImpl;
@@ -101,13 +102,13 @@ public class DungeonImplTest {
             false, 5, new FixedRandomizer(2));
 
     assertEquals(1, dungeon.getPlayer().getCurrentLocation().getId());
-    dungeon.nextMove("S");
-    dungeon.nextMove("S");
-    dungeon.nextMove("W");
-    dungeon.nextMove("S");
-    dungeon.nextMove("E");
-    dungeon.nextMove("E");
-    dungeon.nextMove("E");
+    GameText.nextMove(dungeon, "S");
+    GameText.nextMove(dungeon, "S");
+    GameText.nextMove(dungeon, "W");
+    GameText.nextMove(dungeon, "S");
+    GameText.nextMove(dungeon, "E");
+    GameText.nextMove(dungeon, "E");
+    GameText.nextMove(dungeon, "E");
     assertEquals(dungeon.getEndCave().getId(), dungeon.getPlayer().getCurrentLocation().getId());
     assertTrue(dungeon.hasReachedEnd());
   }
@@ -174,6 +175,21 @@ public class DungeonImplTest {
     }
   }
 
+  @Test
+  public void testForConnectivityGenerators() {
+    for (String generator : new String[] {"wilson", "growing-tree"}) {
+      for (int value = 0; value < 4; value++) {
+        for (boolean wrapping : new boolean[] {false, true}) {
+          Dungeon maze = new DungeonImpl(6, 6, 0, 20, wrapping, 1, generator,
+                  new FixedRandomizer(value));
+          for (Location l : maze.getLocationList()) {
+            assertEquals(36, maze.bfs(l).size());
+          }
+        }
+      }
+    }
+  }
+
   @Test
   public void testTreasurePercentNonWrapping() {
     dungeon = new DungeonImpl(5, 4, 2, 20,
@@ -317,28 +333,28 @@ public class DungeonImplTest {
     assertEquals(5, dungeon.getLocationList().get(1).getNeighbors().get(Direction.SOUTH).getId());
     assertEquals(0, dungeon.getLocationList().get(1).getNeighbors().get(Direction.WEST).getId());
 
-    dungeon.nextMove("S");
+    GameText.nextMove(dungeon, "S");
     assertEquals(5, dungeon.getPlayer().getCurrentLocation().getId());
 
     assertEquals(4, dungeon.getLocationList().get(5).getNeighbors().get(Direction.WEST).getId());
     assertEquals(6, dungeon.getLocationList().get(5).getNeighbors().get(Direction.EAST).getId());
     assertEquals(1, dungeon.getLocationList().get(5).getNeighbors().get(Direction.NORTH).getId());
 
-    dungeon.nextMove("E");
+    GameText.nextMove(dungeon, "E");
     assertEquals(6, dungeon.getPlayer().getCurrentLocation().getId());
 
     assertEquals(2, dungeon.getLocationList().get(6).getNeighbors().get(Direction.NORTH).getId());
     assertEquals(7, dungeon.getLocationList().get(6).getNeighbors().get(Direction.EAST).getId());
     assertEquals(5, dungeon.getLocationList().get(6).getNeighbors().get(Direction.WEST).getId());
 
-    dungeon.nextMove("N");
+    GameText.nextMove(dungeon, "N");
     assertEquals(2, dungeon.getPlayer().getCurrentLocation().getId());
 
     assertEquals(1, dungeon.getLocationList().get(2).getNeighbors().get(Direction.WEST).getId());
     assertEquals(6, dungeon.getLocationList().get(2).getNeighbors().get(Direction.SOUTH).getId());
     assertEquals(3, dungeon.getLocationList().get(2).getNeighbors().get(Direction.EAST).getId());
 
-    dungeon.nextMove("W");
+    GameText.nextMove(dungeon, "W");
     assertEquals(1, dungeon.getPlayer().getCurrentLocation().getId());
   }
 
@@ -352,14 +368,14 @@ public class DungeonImplTest {
     assertEquals(0, dungeonW.getLocationList().get(1).getNeighbors().get(Direction.WEST).getId());
 
     //move to the west neighbor
-    dungeonW.nextMove("W");
+    GameText.nextMove(dungeonW, "W");
     assertEquals(0, dungeonW.getPlayer().getCurrentLocation().getId());
 
     assertEquals(1, dungeonW.getLocationList().get(0).getNeighbors().get(Direction.EAST).getId());
     assertEquals(4, dungeonW.getLocationList().get(0).getNeighbors().get(Direction.SOUTH).getId());
 
     //move to the south
-    dungeonW.nextMove("S");
+    GameText.nextMove(dungeonW, "S");
     assertEquals(4, dungeonW.getPlayer().getCurrentLocation().getId());
 
     assertEquals(0, dungeonW.getLocationList().get(4).getNeighbors().get(Direction.NORTH).getId());
@@ -367,13 +383,13 @@ public class DungeonImplTest {
     assertEquals(7, dungeonW.getLocationList().get(4).getNeighbors().get(Direction.WEST).getId());
 
     //move to the east
-    dungeonW.nextMove("E");
+    GameText.nextMove(dungeonW, "E");
     assertEquals(5, dungeonW.getPlayer().getCurrentLocation().getId());
 
     assertEquals(4, dungeonW.getLocationList().get(5).getNeighbors().get(Direction.WEST).getId());
     assertEquals(9, dungeonW.getLocationList().get(5).getNeighbors().get(Direction.SOUTH).getId());
 
-    dungeonW.nextMove("S");
+    GameText.nextMove(dungeonW, "S");
     assertEquals(9, dungeonW.getPlayer().getCurrentLocation().getId());
 
     assertEquals(5, dungeonW.getLocationList().get(9).getNeighbors().get(Direction.NORTH).getId());
@@ -381,10 +397,46 @@ public class DungeonImplTest {
     assertEquals(8, dungeonW.getLocationList().get(9).getNeighbors().get(Direction.WEST).getId());
 
     //move to the north
-    dungeonW.nextMove("N");
+    GameText.nextMove(dungeonW, "N");
     assertEquals(5, dungeonW.getPlayer().getCurrentLocation().getId());
   }
 
+  @Test
+  public void wrappingNeighborsTwoRows() {
+    //all the 48 edges are open, 23 from the tree and 25 extra
+    dungeonW = new DungeonImpl(2, 12, 25, 20,
+            true, 1, new FixedRandomizer(2));
+    for (Location l : dungeonW.getLocationList()) {
+      int row = l.getId() / 12;
+      int col = l.getId() % 12;
+      Map<Direction, Location> neighbors = l.getNeighbors();
+      assertEquals(4, neighbors.size());
+      //going north from one row or south from the other reaches the same location
+      assertEquals((1 - row) * 12 + col, neighbors.get(Direction.NORTH).getId());
+      assertEquals((1 - row) * 12 + col, neighbors.get(Direction.SOUTH).getId());
+      assertEquals(row * 12 + (col + 1) % 12, neighbors.get(Direction.EAST).getId());
+      assertEquals(row * 12 + (col + 11) % 12, neighbors.get(Direction.WEST).getId());
+    }
+  }
+
+  @Test
+  public void wrappingNeighborsTwoColumns() {
+    //all the 48 edges are open, 23 from the tree and 25 extra
+    dungeonW = new DungeonImpl(12, 2, 25, 20,
+            true, 1, new FixedRandomizer(2));
+    for (Location l : dungeonW.getLocationList()) {
+      int row = l.getId() / 2;
+      int col = l.getId() % 2;
+      Map<Direction, Location> neighbors = l.getNeighbors();
+      assertEquals(4, neighbors.size());
+      assertEquals((row + 11) % 12 * 2 + col, neighbors.get(Direction.NORTH).getId());
+      assertEquals((row + 1) % 12 * 2 + col, neighbors.get(Direction.SOUTH).getId());
+      //going east from one column or west from the other reaches the same location
+      assertEquals(row * 2 + 1 - col, neighbors.get(Direction.EAST).getId());
+      assertEquals(row * 2 + 1 - col, neighbors.get(Direction.WEST).getId());
+    }
+  }
+
   @Test(expected = IllegalArgumentException.class)
   public void invalidMove() {
     dungeon = new DungeonImpl(5, 4, 2, 20,
@@ -392,7 +444,7 @@ public class DungeonImplTest {
     //current location of the player - cave 1
     assertEquals(1, dungeon.getPlayer().getCurrentLocation().getId());
     //enter an invalid direction
-    dungeon.nextMove("T");
+    GameText.nextMove(dungeon, "T");
   }
 
   @Test
@@ -403,7 +455,7 @@ public class DungeonImplTest {
     assertEquals(1, dungeon.getPlayer().getCurrentLocation().getId());
     //enter an invalid direction
     assertEquals("\n" + "Move not possible N",
-            dungeon.nextMove("N"));
+            GameText.nextMove(dungeon, "N"));
   }
 
   @Test
@@ -495,7 +547,7 @@ public class DungeonImplTest {
     assertEquals(3, dungeon.getPlayer().getCurrentLocation().getTreasureList().size());
     assertEquals(0, dungeon.getPlayer().getTreasureList().size());
     //pickup treasure
-    dungeon.pickTreasure();
+    GameText.pickTreasure(dungeon);
     //treasure emptied from the current cave and added to the player's treasure list
     assertEquals(0, dungeon.getPlayer().getCurrentLocation().getTreasureList().size());
     assertEquals(3, dungeon.getPlayer().getTreasureList().size());
@@ -564,7 +616,7 @@ public class DungeonImplTest {
     assertEquals("The player is in CAVE: 1\n" +
             "Player has no treasure\n" +
             "Player has 3 arrows", dungeon.getPlayerDescription());
-    dungeon.pickTreasure();
+    GameText.pickTreasure(dungeon);
     assertEquals("The player is in CAVE: 1\n" +
             "Player has following treasures: SAPPHIRE: 3\n" +
             "Player has 3 arrows", dungeon.getPlayerDescription());
@@ -577,7 +629,7 @@ public class DungeonImplTest {
     assertEquals("The player is in CAVE: 1\n" +
             "Player has no treasure\n" +
             "Player has 3 arrows", dungeonW.getPlayerDescription());
-    dungeonW.pickTreasure();
+    GameText.pickTreasure(dungeonW);
     assertEquals("The player is in CAVE: 1\n" +
                     "Player has following treasures: DIAMOND: 1 RUBY: 1 SAPPHIRE: 2\n" +
                     "Player has 3 arrows",
@@ -708,7 +760,7 @@ public class DungeonImplTest {
     //arrows in the current cave
     assertEquals(2, dungeon.getPlayer().getCurrentLocation().getArrow());
 
-    dungeon.pickArrow();
+    GameText.pickArrow(dungeon);
 
     //no of arrows with player
     assertEquals(5, dungeon.getPlayer().getArrowCount());
@@ -723,13 +775,13 @@ public class DungeonImplTest {
     assertEquals(3, dungeon.getPlayer().getArrowCount());
 
     //move player to tunnel
-    dungeon.nextMove("W");
+    GameText.nextMove(dungeon, "W");
 
     //arrows in the current tunnel
     assertEquals(LocationType.TUNNEL, dungeon.getPlayer().getCurrentLocation().getLocationType());
     assertEquals(2, dungeon.getPlayer().getCurrentLocation().getArrow());
 
-    dungeon.pickArrow();
+    GameText.pickArrow(dungeon);
 
     //no of arrows with player
     assertEquals(5, dungeon.getPlayer().getArrowCount());
@@ -742,33 +794,33 @@ public class DungeonImplTest {
     assertEquals(1, dungeon.getPlayer().getCurrentLocation().getId());
     //monster shot and injured
     assertEquals("\n" + "Player shot the monster, monster is injured",
-            dungeon.shootArrow(1, "E"));
+            GameText.shootArrow(dungeon, 1, "E"));
     //monster shot and killed
     assertEquals("\n" + "Player shot the monster, monster has been killed",
-            dungeon.shootArrow(1, "E"));
+            GameText.shootArrow(dungeon, 1, "E"));
 
     //monster dead, so shot into darkness
     assertEquals("\n" + "Player shot an arrow into the darkness",
-            dungeon.shootArrow(1, "E"));
+            GameText.shootArrow(dungeon, 1, "E"));
 
     //move player to the East cave, monster health in the same cave will be 0
-    dungeon.nextMove("E");
+    GameText.nextMove(dungeon, "E");
     assertEquals(0, dungeon.getPlayer().getCurrentLocation().getMonster().getHealth());
   }
 
   @Test(expected = IllegalArgumentException.class)
   public void testForInvalidShootDirection() {
-    dungeon.shootArrow(1, "A");
+    GameText.shootArrow(dungeon, 1, "A");
   }
 
   @Test(expected = IllegalArgumentException.class)
   public void testForInvalidShootDistance() {
-    dungeon.shootArrow(-1, "N");
+    GameText.shootArrow(dungeon, -1, "N");
   }
 
   @Test(expected = IllegalArgumentException.class)
   public void testForShootZeroDistance() {
-    dungeon.shootArrow(0, "N");
+    GameText.shootArrow(dungeon, 0, "N");
   }
 
   @Test
@@ -791,7 +843,7 @@ public class DungeonImplTest {
     assertEquals(SmellType.HIGH, d.checkSmell());
 
     //move monster to position 0
-    d.nextMove("W");
+    GameText.nextMove(d, "W");
     assertEquals(0, d.getPlayer().getCurrentLocation().getId());
     assertEquals(SmellType.LOW, d.checkSmell());
   }
@@ -806,8 +858,8 @@ public class DungeonImplTest {
     assertEquals(SmellType.HIGH, d.checkSmell());
 
     //kill the monster
-    d.shootArrow(1, "E");
-    d.shootArrow(1, "E");
+    GameText.shootArrow(d, 1, "E");
+    GameText.shootArrow(d, 1, "E");
     //health is 0
     assertEquals(0, d.getLocationList().get(2).getMonster().getHealth());
     //smell should be none
@@ -822,11 +874,11 @@ public class DungeonImplTest {
 
     //monster injured
     assertEquals("\n" + "Player shot the monster, monster is injured",
-            dungeon.shootArrow(1, "E"));
+            GameText.shootArrow(dungeon, 1, "E"));
     assertEquals(50, dungeon.getLocationList().get(2).getMonster().getHealth());
     //monster killed
     assertEquals("\n" + "Player shot the monster, monster has been killed",
-            dungeon.shootArrow(1, "E"));
+            GameText.shootArrow(dungeon, 1, "E"));
     assertEquals(0, dungeon.getLocationList().get(2).getMonster().getHealth());
   }
 
@@ -861,7 +913,7 @@ public class DungeonImplTest {
     assertEquals(100, dungeon.getLocationList().get(2).getMonster().getHealth());
 
     //move player to cave 2
-    dungeon.nextMove("E");
+    GameText.nextMove(dungeon, "E");
     assertEquals(false, dungeon.getPlayer().isAlive());
   }
 
@@ -874,7 +926,7 @@ public class DungeonImplTest {
   public void testPlayerEscapedIfOtyughInjured() {
     assertEquals(true, dungeon.getPlayer().isAlive());
     assertEquals(100, dungeon.getLocationList().get(2).getMonster().getHealth());
-    dungeon.shootArrow(1, "E");
+    GameText.shootArrow(dungeon, 1, "E");
     assertEquals(50, dungeon.getLocationList().get(2).getMonster().getHealth());
     assertEquals(true, dungeon.getPlayer().isAlive());
   }
@@ -882,9 +934,9 @@ public class DungeonImplTest {
   @Test
   public void testOtyughHealth() {
     assertEquals(100, dungeon.getLocationList().get(2).getMonster().getHealth());
-    dungeon.shootArrow(1, "E");
+    GameText.shootArrow(dungeon, 1, "E");
     assertEquals(50, dungeon.getLocationList().get(2).getMonster().getHealth());
-    dungeon.shootArrow(1, "E");
+    GameText.shootArrow(dungeon, 1, "E");
     assertEquals(0, dungeon.getLocationList().get(2).getMonster().getHealth());
   }
 
@@ -910,13 +962,13 @@ public class DungeonImplTest {
   public void testForArrowThroughCave() {
     //monster gets shot as there is a cave with monster in the opp direction that arrow can travel
     assertEquals("\n" + "Player shot the monster, monster is injured",
-            dungeon.shootArrow(2, "E"));
+            GameText.shootArrow(dungeon, 2, "E"));
     assertEquals("\n" + "Player shot the monster, monster has been killed",
-            dungeon.shootArrow(2, "E"));
+            GameText.shootArrow(dungeon, 2, "E"));
     //monster doesn't get shot as there is no cave with monster in the opp direction at distance 2
     // that arrow can travel
     assertEquals("\n" + "You shot an arrow into the darkness",
-            dungeon.shootArrow(2, "S"));
+            GameText.shootArrow(dungeon, 2, "S"));
   }
 
   @Test
@@ -936,7 +988,7 @@ public class DungeonImplTest {
     assertEquals(100, dungeon.getLocationList().get(4).getMonster().getHealth());
     //shot monster at distance 1, in West
     assertEquals("\n" + "Player shot the monster, monster is injured",
-            dungeon.shootArrow(1, "W"));
+            GameText.shootArrow(dungeon, 1, "W"));
     //arrow travels through tunnel and shoots the monster in cave 4
     assertEquals(50, dungeon.getLocationList().get(4).getMonster().getHealth());
   }
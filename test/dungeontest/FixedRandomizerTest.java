@@ -12,6 +12,7 @@ import dungeon.Location;
 import randomizer.FixedRandomizer;
 import randomizer.Randomizer;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -40,4 +41,37 @@ public class FixedRandomizerTest {
     //call shuffle method, the elements shouldn't get shuffled
     assertEquals(list, fixedRandGenerator.shuffleList(list));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void partialShuffle() {
+    int[] values = {0, 1, 2, 3, 4};
+    //the values shouldn't get shuffled
+    fixedRandGenerator.partialShuffle(values, 3);
+    assertArrayEquals(new int[] {0, 1, 2, 3, 4}, values);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void partialShuffleLargeSample() {
+    fixedRandGenerator.partialShuffle(new int[] {0, 1}, 3);
+  }
+
+  @Test
+  public void sampleWithoutReplacement() {
+    assertArrayEquals(new int[] {0, 1, 2}, fixedRandGenerator.sampleWithoutReplacement(10, 3));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void sampleLargerThanValues() {
+    fixedRandGenerator.sampleWithoutReplacement(2, 3);
+  }
+
+  @Test
+  public void fillInts() {
+    Randomizer fixed = new FixedRandomizer(3, 1, 2);
+    int[] values = new int[4];
+    fixed.fillInts(values, 1, 4);
+    //same values as calling getNextInt one by one
+    assertArrayEquals(new int[] {3, 1, 2, 3}, values);
+    assertEquals(1, fixed.getNextInt(1, 4));
+  }
+}
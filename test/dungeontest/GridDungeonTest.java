@@ -0,0 +1,479 @@
+package dungeontest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import controller.GameText;
+import dungeon.Direction;
+import dungeon.Dungeon;
+import dungeon.DungeonLayout;
+import dungeon.GridDungeon;
+import dungeon.Location;
+import dungeon.LocationType;
+import dungeon.SmellType;
+import dungeon.Treasure;
+import randomizer.CounterRandomizer;
+import randomizer.FixedRandomizer;
+import randomizer.SeededRandomizer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test to check all the implementation of the grid dungeon class and its methods.
+ */
+public class GridDungeonTest {
+
+  private Dungeon dungeon;
+
+  @Before
+  public void setUp() {
+    dungeon = new GridDungeon(5, 4, 2, 20,
+            false, 5, new FixedRandomizer(2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidRows() {
+    new GridDungeon(0, 4, 2, 20,
+            false, 5, new FixedRandomizer(2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void largeInterConnectivity() {
+    new GridDungeon(5, 4, 55, 20,
+            false, 5, new FixedRandomizer(2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidHighMonsterCount() {
+    new GridDungeon(5, 4, 2, 20,
+            false, 20, new FixedRandomizer(2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nullRandomizer() {
+    new GridDungeon(5, 4, 2, 20,
+            false, 5, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void smallDungeon() {
+    new GridDungeon(2, 2, 1, 20,
+            false, 5, new FixedRandomizer(1));
+  }
+
+  @Test
+  public void testForTunnelAndCaveEntrance() {
+    Dungeon dungeonW = new GridDungeon(5, 4, 2, 20,
+            true, 5, new FixedRandomizer(2, 3, 4));
+    for (Dungeon d : new Dungeon[] {dungeon, dungeonW}) {
+      for (Location l : d.getLocationList()) {
+        if (l.getLocationType() == LocationType.TUNNEL) {
+          assertEquals(2, l.getNeighbors().size());
+        } else {
+          assertTrue(l.getNeighbors().size() == 1 || l.getNeighbors().size() == 3
+                  || l.getNeighbors().size() == 4);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testForConnectivity() {
+    Dungeon dungeonW = new GridDungeon(5, 4, 4, 20,
+            true, 5, new FixedRandomizer(2, 3, 4));
+    for (Dungeon d : new Dungeon[] {dungeon, dungeonW}) {
+      for (Location l : d.getLocationList()) {
+        assertEquals(20, d.bfs(l).size());
+      }
+    }
+  }
+
+  @Test
+  public void neighborsAreSymmetric() {
+    for (Location l : dungeon.getLocationList()) {
+      for (Map.Entry<Direction, Location> neighbor : l.getNeighbors().entrySet()) {
+        assertEquals(l, neighbor.getValue().getNeighbors()
+                .get(neighbor.getKey().getOpposite()));
+      }
+    }
+  }
+
+  @Test
+  public void dumpDungeonWrapping() {
+    Dungeon dungeonW = new GridDungeon(4, 4, 2, 20
+            , true, 5,
+            new FixedRandomizer(0, 1, 2, 3));
+    assertEquals("\n" +
+            "CAVE: 0\n" +
+            "-->SOUTH Neighbor: CAVE: 4\n" +
+            "-->EAST Neighbor: TUNNEL: 1\n" +
+            "-->WEST Neighbor: CAVE: 3\n" +
+            "Arrow Count: 2\n" +
+            "\n" +
+            "TUNNEL: 1\n" +
+            "-->EAST Neighbor: CAVE: 2\n" +
+            "-->WEST Neighbor: CAVE: 0\n" +
+            "Arrow Count: 3\n" +
+            "\n" +
+            "CAVE: 2\n" +
+            "-->WEST Neighbor: TUNNEL: 1\n" +
+            "###Monster###\n" +
+            "\n" +
+            "CAVE: 3\n" +
+            "-->NORTH Neighbor: CAVE: 15\n" +
+            "-->SOUTH Neighbor: TUNNEL: 7\n" +
+            "-->EAST Neighbor: CAVE: 0\n" +
+            "###Monster###\n" +
+            "Arrow Count: 1\n" +
+            "\n" +
+            "CAVE: 4\n" +
+            "-->NORTH Neighbor: CAVE: 0\n" +
+            "-->SOUTH Neighbor: TUNNEL: 8\n" +
+            "-->EAST Neighbor: TUNNEL: 5\n" +
+            "###Monster###\n" +
+            "\n" +
+            "TUNNEL: 5\n" +
+            "-->EAST Neighbor: CAVE: 6\n" +
+            "-->WEST Neighbor: CAVE: 4\n" +
+            "\n" +
+            "CAVE: 6\n" +
+            "-->WEST Neighbor: TUNNEL: 5\n" +
+            "###Monster###\n" +
+            "\n" +
+            "TUNNEL: 7\n" +
+            "-->NORTH Neighbor: CAVE: 3\n" +
+            "-->SOUTH Neighbor: CAVE: 11\n" +
+            "\n" +
+            "TUNNEL: 8\n" +
+            "-->NORTH Neighbor: CAVE: 4\n" +
+            "-->SOUTH Neighbor: CAVE: 12\n" +
+            "\n" +
+            "CAVE: 9\n" +
+            "-->EAST Neighbor: TUNNEL: 10\n" +
+            "###Monster###\n" +
+            "\n" +
+            "TUNNEL: 10\n" +
+            "-->EAST Neighbor: CAVE: 11\n" +
+            "-->WEST Neighbor: CAVE: 9\n" +
+            "\n" +
+            "CAVE: 11\n" +
+            "-->NORTH Neighbor: TUNNEL: 7\n" +
+            "-->SOUTH Neighbor: CAVE: 15\n" +
+            "-->WEST Neighbor: TUNNEL: 10\n" +
+            "\n" +
+            "CAVE: 12\n" +
+            "-->NORTH Neighbor: TUNNEL: 8\n" +
+            "-->EAST Neighbor: CAVE: 13\n" +
+            "-->WEST Neighbor: CAVE: 15\n" +
+            "\n" +
+            "CAVE: 13\n" +
+            "-->WEST Neighbor: CAVE: 12\n" +
+            "\n" +
+            "CAVE: 14\n" +
+            "-->EAST Neighbor: CAVE: 15\n" +
+            "\n" +
+            "CAVE: 15\n" +
+            "-->NORTH Neighbor: CAVE: 11\n" +
+            "-->SOUTH Neighbor: CAVE: 3\n" +
+            "-->EAST Neighbor: CAVE: 12\n" +
+            "-->WEST Neighbor: CAVE: 14\n", dungeonW.toString());
+  }
+
+  @Test
+  public void testStartEndMinimumFive() {
+    assertEquals(LocationType.CAVE, dungeon.getStartCave().getLocationType());
+    assertEquals(LocationType.CAVE, dungeon.getEndCave().getLocationType());
+    assertTrue(dungeon.bfs(dungeon.getStartCave()).get(dungeon.getLocationList()
+            .get(dungeon.getEndCave().getId())) >= 5);
+    assertEquals(dungeon.getStartCave().getId(),
+            dungeon.getPlayer().getCurrentLocation().getId());
+  }
+
+  @Test
+  public void testMonsterPlacement() {
+    int monsterCount = 0;
+    for (Location l : dungeon.getLocationList()) {
+      if (l.hasMonster()) {
+        assertEquals(LocationType.CAVE, l.getLocationType());
+        assertEquals(100, l.getMonster().getHealth());
+        monsterCount++;
+      }
+    }
+    assertEquals(5, monsterCount);
+    assertFalse(dungeon.getStartCave().hasMonster());
+    assertTrue(dungeon.getEndCave().hasMonster());
+  }
+
+  @Test
+  public void tunnelNoTreasure() {
+    int cavesWithTreasure = 0;
+    for (Location l : dungeon.getLocationList()) {
+      if (l.getLocationType() == LocationType.TUNNEL) {
+        assertEquals(0, l.getTreasureList().size());
+      } else if (l.getTreasureList().size() > 0) {
+        cavesWithTreasure++;
+      }
+    }
+    assertTrue(cavesWithTreasure > 0);
+  }
+
+  @Test
+  public void pickTreasureAndArrow() {
+    assertEquals(3, dungeon.getPlayer().getCurrentLocation().getTreasureList().size());
+    assertEquals("Treasure picked up", GameText.pickTreasure(dungeon));
+    assertEquals(0, dungeon.getPlayer().getCurrentLocation().getTreasureList().size());
+    List<Treasure> tList = new ArrayList<>();
+    tList.add(Treasure.SAPPHIRE);
+    tList.add(Treasure.SAPPHIRE);
+    tList.add(Treasure.SAPPHIRE);
+    assertEquals(tList, dungeon.getPlayer().getTreasureList());
+    assertEquals("No treasure present at the location", GameText.pickTreasure(dungeon));
+
+    assertEquals(2, dungeon.getPlayer().getCurrentLocation().getArrow());
+    assertEquals("Arrow picked up", GameText.pickArrow(dungeon));
+    assertEquals(5, dungeon.getPlayer().getArrowCount());
+    assertEquals(0, dungeon.getPlayer().getCurrentLocation().getArrow());
+    assertEquals("No arrow present at the location", GameText.pickArrow(dungeon));
+  }
+
+  @Test
+  public void descriptions() {
+    assertEquals("The player is in CAVE: 1\n" +
+            "Player has no treasure\n" +
+            "Player has 3 arrows", dungeon.getPlayerDescription());
+    assertEquals("\n" +
+            "Cave has following treasures -\n" +
+            "Sapphire\n" +
+            "Sapphire\n" +
+            "Sapphire\n" +
+            "There are 2 arrows in the current location", dungeon.getLocationDescription());
+    assertEquals("\nNext possible moves: \nSouth\nEast\nWest",
+            dungeon.getNextPossibleDescription());
+  }
+
+  @Test
+  public void nextMove() {
+    assertEquals("Player moved successfully to location 0", GameText.nextMove(dungeon, "W"));
+    assertEquals(0, dungeon.getPlayer().getCurrentLocation().getId());
+    assertEquals("\nMove not possible N", GameText.nextMove(dungeon, "N"));
+    assertEquals("Player moved successfully to location 1", GameText.nextMove(dungeon, "E"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidMove() {
+    GameText.nextMove(dungeon, "T");
+  }
+
+  @Test
+  public void testForPlayerDead() {
+    assertEquals(100, dungeon.getLocationList().get(2).getMonster().getHealth());
+    GameText.nextMove(dungeon, "E");
+    assertFalse(dungeon.getPlayer().isAlive());
+  }
+
+  @Test
+  public void testForShoot() {
+    assertEquals("\n" + "Player shot the monster, monster is injured",
+            GameText.shootArrow(dungeon, 1, "E"));
+    assertEquals(50, dungeon.getLocationList().get(2).getMonster().getHealth());
+    assertEquals("\n" + "Player shot the monster, monster has been killed",
+            GameText.shootArrow(dungeon, 1, "E"));
+    assertEquals("\n" + "Player shot an arrow into the darkness",
+            GameText.shootArrow(dungeon, 1, "E"));
+    assertEquals(0, dungeon.getPlayer().getArrowCount());
+    assertEquals("\n" + "You are out of arrows, explore to find more",
+            GameText.shootArrow(dungeon, 1, "E"));
+
+    GameText.nextMove(dungeon, "E");
+    assertTrue(dungeon.getPlayer().isAlive());
+    assertEquals(0, dungeon.getPlayer().getCurrentLocation().getMonster().getHealth());
+  }
+
+  @Test
+  public void testForArrowThroughTunnel() {
+    dungeon = new GridDungeon(5, 4, 2, 50
+            , false, 5, new FixedRandomizer(2));
+    assertEquals(LocationType.TUNNEL, dungeon.getLocationList().get(0).getLocationType());
+    assertEquals(100, dungeon.getLocationList().get(4).getMonster().getHealth());
+    //arrow travels west into tunnel 0 and leaves it to the south
+    assertEquals("\n" + "Player shot the monster, monster is injured",
+            GameText.shootArrow(dungeon, 1, "W"));
+    assertEquals(50, dungeon.getLocationList().get(4).getMonster().getHealth());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testForInvalidShootDirection() {
+    GameText.shootArrow(dungeon, 1, "A");
+  }
+
+  @Test
+  public void testForSmell() {
+    Dungeon d = new GridDungeon(5, 4, 2, 20,
+            false, 2, new FixedRandomizer(2));
+    assertEquals(SmellType.HIGH, d.checkSmell());
+    GameText.nextMove(d, "W");
+    assertEquals(SmellType.LOW, d.checkSmell());
+    GameText.nextMove(d, "E");
+    GameText.shootArrow(d, 1, "E");
+    GameText.shootArrow(d, 1, "E");
+    assertEquals(SmellType.NONE, d.checkSmell());
+  }
+
+  @Test
+  public void locationsAreViews() {
+    Location first = dungeon.getLocationList().get(2);
+    Location second = dungeon.getLocationList().get(2);
+    assertNotSame(first, second);
+    assertEquals(first, second);
+    //a change through one view is seen through every other view
+    first.removeArrow();
+    assertEquals(0, second.getArrow());
+    first.updateVisit(true);
+    assertTrue(second.isVisited());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void neighborsCannotChange() {
+    Location location = dungeon.getLocationList().get(0);
+    location.addNeighbors(Direction.NORTH, dungeon.getLocationList().get(1));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void locationOutsideDungeon() {
+    dungeon.getLocationList().get(20);
+  }
+
+  @Test
+  public void largeDungeon() {
+    Dungeon large = new GridDungeon(1000, 1000, 1000, 20,
+            true, 100, new FixedRandomizer(2, 3, 4, 5));
+    assertEquals(1000000, large.getLocationList().size());
+    assertFalse(large.hasReachedEnd());
+    assertTrue(large.getPlayer().isAlive());
+  }
+
+  //checks that every location can be reached and that the maze has exactly one passage more than
+  //a spanning tree for every extra passage
+  private void assertMaze(Dungeon maze, int locations, int interconnectivity) {
+    int doors = 0;
+    for (Location l : maze.getLocationList()) {
+      doors += l.getNeighbors().size();
+    }
+    assertEquals(2 * (locations - 1 + interconnectivity), doors);
+    for (int distance : maze.getDistances(maze.getStartCave().getId())) {
+      assertTrue(distance >= 0);
+    }
+  }
+
+  @Test
+  public void generatorsBuildConnectedMazes() {
+    for (String generator : new String[] {"kruskal", "eller", "wilson", "growing-tree"}) {
+      assertMaze(new GridDungeon(8, 9, 5, 20, false, 1, generator,
+              new SeededRandomizer(11)), 72, 5);
+      assertMaze(new GridDungeon(8, 9, 5, 20, true, 1, generator,
+              new CounterRandomizer(11)), 72, 5);
+      assertMaze(new GridDungeon(1, 12, 0, 20, false, 1, generator,
+              new SeededRandomizer(3)), 12, 0);
+    }
+  }
+
+  @Test
+  public void generatorsWithFixedRandomizer() {
+    for (String generator : new String[] {"wilson", "growing-tree"}) {
+      for (int value = 0; value < 4; value++) {
+        assertMaze(new GridDungeon(6, 6, 0, 20, false, 1, generator,
+                new FixedRandomizer(value)), 36, 0);
+        assertMaze(new GridDungeon(6, 6, 0, 20, true, 1, generator,
+                new FixedRandomizer(value)), 36, 0);
+        assertMaze(new GridDungeon(7, 5, 4, 20, true, 1, generator,
+                new FixedRandomizer(value, 1, 3)), 35, 4);
+      }
+    }
+  }
+
+  @Test
+  public void ellerBuildsTallMazes() {
+    assertMaze(new GridDungeon(20000, 3, 100, 20, true, 1, "eller",
+            new SeededRandomizer(5)), 60000, 100);
+  }
+
+  @Test
+  public void generatorIsRepeatable() {
+    for (String generator : new String[] {"eller", "wilson", "growing-tree"}) {
+      assertEquals(new GridDungeon(6, 7, 3, 20, true, 1, generator,
+                      new SeededRandomizer(8)).toString(),
+              new GridDungeon(6, 7, 3, 20, true, 1, generator,
+                      new SeededRandomizer(8)).toString());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void unknownGenerator() {
+    new GridDungeon(5, 4, 2, 20, false, 1, "prim", new FixedRandomizer(2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void ellerLargeInterConnectivity() {
+    new GridDungeon(5, 4, 13, 20, false, 1, "eller", new FixedRandomizer(2));
+  }
+
+  @Test
+  public void sessionsShareTheLayout() {
+    GridDungeon first = new GridDungeon(12, 10, 6, 40, true, 3, new SeededRandomizer(21));
+    GridDungeon second = new GridDungeon(first.getLayout(), 40, 3, new SeededRandomizer(22));
+    assertSame(first.getLayout(), second.getLayout());
+    assertEquals(first.getStartCave().getId(), second.getStartCave().getId());
+    assertEquals(first.getEndCave().getId(), second.getEndCave().getId());
+    for (int i = 0; i < 120; i++) {
+      assertEquals(first.getLocationList().get(i).getLocationType(),
+              second.getLocationList().get(i).getLocationType());
+      assertEquals(first.getLocationList().get(i).getNeighbors().keySet(),
+              second.getLocationList().get(i).getNeighbors().keySet());
+    }
+  }
+
+  @Test
+  public void sessionsKeepTheirOwnContent() {
+    DungeonLayout layout = DungeonLayout.create(12, 10, 6, true, "kruskal",
+            new SeededRandomizer(5));
+    Dungeon first = new GridDungeon(layout, 90, 3, new SeededRandomizer(1));
+    Dungeon second = new GridDungeon(layout, 90, 3, new SeededRandomizer(1));
+    assertEquals(first.toString(), second.toString());
+
+    int start = layout.getStartCave();
+    assertEquals("Treasure picked up", GameText.pickTreasure(first));
+    assertTrue(first.getLocationList().get(start).getTreasureList().isEmpty());
+    assertFalse(second.getLocationList().get(start).getTreasureList().isEmpty());
+    assertEquals(layout.getCaveCount(), countCaves(second));
+  }
+
+  private int countCaves(Dungeon maze) {
+    int caves = 0;
+    for (Location l : maze.getLocationList()) {
+      if (l.getLocationType() == LocationType.CAVE) {
+        caves++;
+      }
+    }
+    return caves;
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nullLayout() {
+    new GridDungeon(null, 20, 1, new SeededRandomizer(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void tooManyMonstersForLayout() {
+    DungeonLayout layout = new GridDungeon(5, 4, 2, 20, false, 1, new FixedRandomizer(2))
+            .getLayout();
+    new GridDungeon(layout, 20, 50, new FixedRandomizer(2));
+  }
+}
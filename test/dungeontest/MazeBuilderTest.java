@@ -0,0 +1,111 @@
+package dungeontest;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import dungeon.Dungeon;
+import dungeon.DungeonImpl;
+import dungeon.DungeonLayout;
+import dungeon.GridDungeon;
+import dungeon.GridTopology;
+import randomizer.CounterRandomizer;
+import randomizer.SeededRandomizer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class to check that a dungeon does not depend on the spanning tree algorithm or on the no
+ * of threads it is generated on.
+ */
+public class MazeBuilderTest {
+
+  //the doors of every location of the layout
+  private static int[] doors(DungeonLayout layout) {
+    GridTopology topology = layout.getTopology();
+    int[] doors = new int[topology.size()];
+    for (int id = 0; id < doors.length; id++) {
+      doors[id] = topology.getDoors(id);
+    }
+    return doors;
+  }
+
+  private static void assertSameTree(int rows, int columns, int interconnectivity,
+                                     boolean wrapping, long seed) {
+    DungeonLayout kruskal = DungeonLayout.create(rows, columns, interconnectivity, wrapping,
+            "kruskal", new SeededRandomizer(seed));
+    DungeonLayout boruvka = DungeonLayout.create(rows, columns, interconnectivity, wrapping,
+            "boruvka", new SeededRandomizer(seed));
+    assertArrayEquals(doors(kruskal), doors(boruvka));
+    assertEquals(kruskal.getStartCave(), boruvka.getStartCave());
+    assertEquals(kruskal.getEndCave(), boruvka.getEndCave());
+  }
+
+  @Test
+  public void boruvkaBuildsTheKruskalTree() {
+    for (long seed = 1; seed <= 20; seed++) {
+      assertSameTree(9, 11, 0, false, seed);
+      assertSameTree(9, 11, 0, true, seed);
+      assertSameTree(12, 7, 6, true, seed);
+    }
+  }
+
+  @Test
+  public void boruvkaBuildsTheKruskalTreeOfOneRow() {
+    //the wrap edges of a single row lead back to the same location or repeat a grid edge
+    for (long seed = 1; seed <= 20; seed++) {
+      assertSameTree(1, 12, 0, true, seed);
+      assertSameTree(12, 1, 0, true, seed);
+      assertSameTree(2, 9, 1, true, seed);
+    }
+  }
+
+  @Test
+  public void boruvkaBuildsTheKruskalDungeon() {
+    assertEquals(new GridDungeon(20, 25, 8, 30, true, 5, "kruskal",
+                    new CounterRandomizer(3)).toString(),
+            new GridDungeon(20, 25, 8, 30, true, 5, "boruvka",
+                    new CounterRandomizer(3)).toString());
+  }
+
+  private String generate(int threads, boolean grid) throws Exception {
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    try {
+      return pool.submit(() -> {
+        Dungeon d = grid
+                ? new GridDungeon(150, 160, 300, 40, true, 50, new CounterRandomizer(99))
+                : new DungeonImpl(150, 160, 300, 40, true, 50, new CounterRandomizer(99));
+        return d.toString() + d.getStartCave().getId() + " " + d.getEndCave().getId();
+      }).get();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void dungeonDoesNotDependOnThreadCount() throws Exception {
+    String single = generate(1, true);
+    assertEquals(single, generate(4, true));
+    assertEquals(single, generate(4, false));
+  }
+
+  //a maze with more than a million edges, built by the Boruvka Algorithm
+  private int[] largeMaze(int threads) throws Exception {
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    try {
+      return pool.submit(() -> {
+        Dungeon d = new GridDungeon(725, 725, 0, 20, true, 1, "boruvka",
+                new CounterRandomizer(7));
+        return d.getDistances(d.getStartCave().getId());
+      }).get();
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void largeMazeDoesNotDependOnThreadCount() throws Exception {
+    assertArrayEquals(largeMaze(1), largeMaze(8));
+  }
+}
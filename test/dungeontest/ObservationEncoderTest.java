@@ -0,0 +1,143 @@
+package dungeontest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import controller.GameText;
+import dungeon.Direction;
+import dungeon.GridDungeon;
+import dungeon.GridTopology;
+import dungeon.Location;
+import dungeon.ObservationEncoder;
+import dungeon.Treasure;
+import randomizer.FixedRandomizer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Test to check the observation of the player of a grid dungeon written as numbers.
+ */
+public class ObservationEncoderTest {
+
+  private GridDungeon dungeon;
+  private ObservationEncoder encoder;
+
+  @Before
+  public void setUp() {
+    dungeon = new GridDungeon(5, 4, 2, 20, false, 5, new FixedRandomizer(2));
+    encoder = new ObservationEncoder(2);
+  }
+
+  private int[] encode() {
+    int[] observation = new int[encoder.size()];
+    encoder.encode(dungeon, observation, 0);
+    return observation;
+  }
+
+  @Test
+  public void size() {
+    assertEquals(ObservationEncoder.PATCH, new ObservationEncoder(0).size());
+    assertEquals(ObservationEncoder.PATCH + 25, encoder.size());
+  }
+
+  @Test
+  public void observationMatchesTheDungeon() {
+    int[] observation = encode();
+    Location location = dungeon.getPlayer().getCurrentLocation();
+    int doors = 0;
+    for (Direction direction : location.getNeighbors().keySet()) {
+      doors |= GridTopology.mask(direction);
+    }
+    assertEquals(location.getId(), observation[ObservationEncoder.LOCATION]);
+    assertEquals(doors, observation[ObservationEncoder.DOORS]);
+    assertEquals(dungeon.checkSmell().ordinal(), observation[ObservationEncoder.SMELL]);
+    assertEquals(3, observation[ObservationEncoder.ARROWS]);
+    assertEquals(location.getArrow(), observation[ObservationEncoder.LOCATION_ARROWS]);
+    for (Treasure treasure : Treasure.values()) {
+      int count = 0;
+      for (Treasure t : location.getTreasureList()) {
+        count += t == treasure ? 1 : 0;
+      }
+      assertEquals(count,
+              observation[ObservationEncoder.LOCATION_TREASURE + treasure.ordinal()]);
+      assertEquals(0, observation[ObservationEncoder.PLAYER_TREASURE + treasure.ordinal()]);
+    }
+    //the player is at the middle of the patch
+    assertEquals(doors, observation[ObservationEncoder.PATCH + 12] & 15);
+  }
+
+  @Test
+  public void pickupsAreObserved() {
+    int treasures = dungeon.getPlayer().getCurrentLocation().getTreasureList().size();
+    int arrows = dungeon.getPlayer().getCurrentLocation().getArrow();
+    GameText.pickTreasure(dungeon);
+    GameText.pickArrow(dungeon);
+    int[] observation = encode();
+    int picked = 0;
+    for (Treasure treasure : Treasure.values()) {
+      picked += observation[ObservationEncoder.PLAYER_TREASURE + treasure.ordinal()];
+      assertEquals(0, observation[ObservationEncoder.LOCATION_TREASURE + treasure.ordinal()]);
+    }
+    assertEquals(treasures, picked);
+    assertEquals(3 + arrows, observation[ObservationEncoder.ARROWS]);
+    assertEquals(0, observation[ObservationEncoder.LOCATION_ARROWS]);
+  }
+
+  @Test
+  public void patchOutsideTheGrid() {
+    int[] observation = encode();
+    int id = observation[ObservationEncoder.LOCATION];
+    int row = id / 4;
+    int column = id % 4;
+    for (int cell = 0; cell < 25; cell++) {
+      int r = row + cell / 5 - 2;
+      int c = column + cell % 5 - 2;
+      boolean inside = r >= 0 && r < 5 && c >= 0 && c < 4;
+      assertEquals(inside, observation[ObservationEncoder.PATCH + cell] >= 0);
+    }
+  }
+
+  @Test
+  public void bufferMatchesArray() {
+    int[] observation = new int[encoder.size() + 3];
+    assertEquals(encoder.size() + 3, encoder.encode(dungeon, observation, 3));
+    ByteBuffer buffer = ByteBuffer.allocate(encoder.size() * Integer.BYTES);
+    encoder.encode(dungeon, buffer);
+    assertEquals(0, buffer.remaining());
+    buffer.flip();
+    for (int i = 0; i < encoder.size(); i++) {
+      assertEquals(observation[3 + i], buffer.getInt());
+    }
+  }
+
+  @Test
+  public void encodingDoesNotAllocate() {
+    assumeTrue(AllocationMeter.isSupported());
+    int[] observation = new int[encoder.size()];
+    ByteBuffer buffer = ByteBuffer.allocateDirect(encoder.size() * Integer.BYTES);
+    assertEquals(0, AllocationMeter.bytesPerOperation(() -> {
+      encoder.encode(dungeon, observation, 0);
+      encoder.encode(dungeon, buffer);
+      buffer.clear();
+    }));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void arrayTooShort() {
+    encoder.encode(dungeon, new int[encoder.size()], 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void bufferTooShort() {
+    encoder.encode(dungeon, ByteBuffer.allocate(8));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeRadius() {
+    new ObservationEncoder(-1);
+  }
+}
@@ -0,0 +1,138 @@
+package dungeontest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import dungeon.Dungeon;
+import dungeon.DungeonImpl;
+import dungeon.GridDungeon;
+import randomizer.SeededRandomizer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test class to check all the implementation of the seeded random class used to
+ * generate random number values that can be repeated.
+ */
+public class SeededRandomizerTest {
+
+  private SeededRandomizer<Integer> randomGenerator;
+
+  @Before
+  public void setUp() {
+    randomGenerator = new SeededRandomizer<>(42);
+  }
+
+  private int[] draw(SeededRandomizer<Integer> randomizer, int count) {
+    int[] values = new int[count];
+    for (int i = 0; i < count; i++) {
+      values[i] = randomizer.getNextInt(0, 1000);
+    }
+    return values;
+  }
+
+  @Test
+  public void getNextInt() {
+    for (int i = 0; i < 100; i++) {
+      int value = randomGenerator.getNextInt(2, 4);
+      assertTrue(2 <= value && value < 4);
+    }
+  }
+
+  @Test
+  public void sameSeedSameNumbers() {
+    assertArrayEquals(draw(new SeededRandomizer<>(7), 50), draw(new SeededRandomizer<>(7), 50));
+    assertFalse(Arrays.equals(draw(new SeededRandomizer<>(7), 50),
+            draw(new SeededRandomizer<>(8), 50)));
+    assertEquals(42, randomGenerator.getSeed());
+  }
+
+  @Test
+  public void shuffleList() {
+    List<Integer> list = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      list.add(i);
+    }
+    List<Integer> shuffled = randomGenerator.shuffleList(list);
+    assertNotEquals(list, shuffled);
+    assertTrue(shuffled.containsAll(list));
+    //the given list is not changed
+    assertEquals(0, (int) list.get(0));
+    assertEquals(shuffled, new SeededRandomizer<Integer>(42).shuffleList(list));
+  }
+
+  @Test
+  public void partialShuffle() {
+    int[] values = new int[100];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = i;
+    }
+    randomGenerator.partialShuffle(values, 10);
+    int[] sorted = values.clone();
+    Arrays.sort(sorted);
+    for (int i = 0; i < sorted.length; i++) {
+      assertEquals(i, sorted[i]);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void partialShuffleLargeSample() {
+    randomGenerator.partialShuffle(new int[] {0, 1}, 3);
+  }
+
+  @Test
+  public void splitIsRepeatable() {
+    SeededRandomizer<Integer> first = new SeededRandomizer<>(42);
+    SeededRandomizer<Integer> second = new SeededRandomizer<>(42);
+    int[] splitFirst = draw(first.split(), 50);
+    int[] splitSecond = draw(second.split(), 50);
+    assertArrayEquals(splitFirst, splitSecond);
+    //the split generator does not repeat the numbers of the one it came from
+    assertFalse(Arrays.equals(splitFirst, draw(first, 50)));
+    assertEquals(42, first.split().getSeed());
+  }
+
+  @Test
+  public void sameSeedSameDungeon() {
+    Dungeon first = new DungeonImpl(8, 9, 5, 30,
+            true, 6, new SeededRandomizer(2021));
+    Dungeon second = new DungeonImpl(8, 9, 5, 30,
+            true, 6, new SeededRandomizer(2021));
+    assertEquals(first.toString(), second.toString());
+    assertEquals(first.getStartCave().getId(), second.getStartCave().getId());
+    assertEquals(first.getEndCave().getId(), second.getEndCave().getId());
+  }
+
+  @Test
+  public void sameSeedSameGridDungeon() {
+    Dungeon first = new GridDungeon(8, 9, 5, 30,
+            true, 6, new SeededRandomizer(2021));
+    Dungeon second = new GridDungeon(8, 9, 5, 30,
+            true, 6, new SeededRandomizer(2021));
+    assertEquals(first.toString(), second.toString());
+
+    //both dungeons take the same numbers from the generator in the same order
+    Dungeon list = new DungeonImpl(8, 9, 5, 30,
+            true, 6, new SeededRandomizer(2021));
+    assertEquals(list.toString(), first.toString());
+  }
+
+  @Test
+  public void sampleWithoutReplacement() {
+    int[] sample = randomGenerator.sampleWithoutReplacement(30, 30);
+    int[] sorted = sample.clone();
+    Arrays.sort(sorted);
+    for (int i = 0; i < sorted.length; i++) {
+      assertEquals(i, sorted[i]);
+    }
+    assertArrayEquals(sample, new SeededRandomizer<Integer>(42).sampleWithoutReplacement(30, 30));
+  }
+}
@@ -0,0 +1,181 @@
+package dungeontest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import dungeon.Direction;
+import dungeon.Dungeon;
+import dungeon.DungeonConfig;
+import dungeon.SmellType;
+import dungeon.sim.Action;
+import dungeon.sim.Simulation;
+import dungeon.sim.SimulationResult;
+import dungeon.sim.Strategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test to check the headless simulation of the dungeon game.
+ */
+public class SimulationTest {
+
+  private static final DungeonConfig CONFIG = new DungeonConfig(6, 8, 2, 40, false, 4);
+
+  private Simulation simulation;
+
+  @Before
+  public void setUp() {
+    simulation = new Simulation(3, 4);
+  }
+
+  @After
+  public void tearDown() {
+    simulation.close();
+  }
+
+  //walks the shortest way to the end cave and shoots ahead when an Otyugh is close
+  private static final class Greedy implements Strategy {
+    private int[] distances;
+    private int shots;
+
+    @Override
+    public void start(Dungeon dungeon, long seed) {
+      distances = dungeon.getDistances(dungeon.getEndCave().getId());
+      shots = 0;
+    }
+
+    @Override
+    public Action next(Dungeon dungeon, int turn) {
+      Direction best = null;
+      for (Direction direction : dungeon.getPlayer().getCurrentLocation().getNeighbors()
+              .keySet()) {
+        int id = dungeon.getPlayer().getCurrentLocation().getNeighbors().get(direction).getId();
+        if (best == null || distances[id] < distances[dungeon.getPlayer().getCurrentLocation()
+                .getNeighbors().get(best).getId()]) {
+          best = direction;
+        }
+      }
+      if (dungeon.checkSmell() == SmellType.HIGH && shots < 2) {
+        shots++;
+        return Action.shoot(1, best);
+      }
+      shots = 0;
+      return Action.move(best);
+    }
+  }
+
+  //keeps picking up treasure and never moves
+  private static final class Idle implements Strategy {
+    @Override
+    public void start(Dungeon dungeon, long seed) {
+      //nothing to remember
+    }
+
+    @Override
+    public Action next(Dungeon dungeon, int turn) {
+      return turn % 2 == 0 ? Action.PICK_TREASURE : Action.PICK_ARROW;
+    }
+  }
+
+  @Test
+  public void everyGameIsCounted() {
+    SimulationResult result = simulation.run(CONFIG, Greedy::new, 50, 200, 7);
+    assertEquals(CONFIG, result.getConfig());
+    assertEquals(50, result.getGames());
+    assertEquals(50, result.getWins() + result.getLosses() + result.getTimeouts());
+    assertTrue(result.getWins() > 0);
+    assertTrue(result.getKills() > 0);
+    assertTrue(result.getTurns() <= 50 * 200);
+    assertTrue(result.getLongestGame() <= 200);
+    assertTrue(result.getGamesPerSecond() > 0);
+  }
+
+  @Test
+  public void idleGamesTimeOut() {
+    SimulationResult result = simulation.run(CONFIG, Idle::new, 10, 30, 7);
+    assertEquals(10, result.getTimeouts());
+    assertEquals(300, result.getTurns());
+    assertEquals(30, result.getLongestGame());
+  }
+
+  @Test
+  public void resultDoesNotDependOnThreadCount() {
+    SimulationResult several = simulation.run(CONFIG, Greedy::new, 40, 200, 11);
+    try (Simulation single = new Simulation(1, 4)) {
+      SimulationResult one = single.run(CONFIG, Greedy::new, 40, 200, 11);
+      assertEquals(one.getWins(), several.getWins());
+      assertEquals(one.getLosses(), several.getLosses());
+      assertEquals(one.getTurns(), several.getTurns());
+      assertEquals(one.getKills(), several.getKills());
+      assertEquals(one.getLongestGame(), several.getLongestGame());
+    }
+  }
+
+  @Test
+  public void resultForEveryConfiguration() {
+    DungeonConfig wrapping = new DungeonConfig(6, 8, 2, 40, true, 4, "wilson");
+    List<SimulationResult> results =
+            simulation.run(Arrays.asList(CONFIG, wrapping), Greedy::new, 10, 200, 3);
+    assertEquals(2, results.size());
+    assertEquals(CONFIG, results.get(0).getConfig());
+    assertEquals(wrapping, results.get(1).getConfig());
+    assertEquals(10, results.get(1).getGames());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidConfig() {
+    simulation.run(new DungeonConfig(5, 5, 100, 20, false, 2), Greedy::new, 10, 100, 1);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void strategyWithoutAction() {
+    simulation.run(CONFIG, () -> new Strategy() {
+      @Override
+      public void start(Dungeon dungeon, long seed) {
+        //nothing to remember
+      }
+
+      @Override
+      public Action next(Dungeon dungeon, int turn) {
+        return null;
+      }
+    }, 10, 100, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void zeroGames() {
+    simulation.run(CONFIG, Greedy::new, 0, 100, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void zeroThreads() {
+    new Simulation(0, 4);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void closedSimulation() {
+    simulation.close();
+    simulation.run(CONFIG, Greedy::new, 10, 100, 1);
+  }
+
+  @Test
+  public void actionsAreShared() {
+    assertSame(Action.move(Direction.NORTH), Action.move(Direction.NORTH));
+    assertSame(Action.shoot(3, Direction.EAST), Action.shoot(3, Direction.EAST));
+    assertNotSame(Action.shoot(9, Direction.EAST), Action.shoot(9, Direction.EAST));
+    assertEquals(9, Action.shoot(9, Direction.EAST).getDistance());
+    assertEquals(Action.Kind.PICK_ARROW, Action.PICK_ARROW.getKind());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shootZeroDistance() {
+    Action.shoot(0, Direction.WEST);
+  }
+}
@@ -0,0 +1,27 @@
+package dungeontest;
+
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import randomizer.SplitMix;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test class to check the SplitMix steps against the generator of the JDK they are taken from.
+ */
+public class SplitMixTest {
+
+  @Test
+  public void matchesSplittableRandom() {
+    for (long seed : new long[] {0, 1, 42, -7, Long.MAX_VALUE}) {
+      SplittableRandom random = new SplittableRandom(seed);
+      long state = seed;
+      for (int i = 0; i < 100; i++) {
+        state += SplitMix.GOLDEN_GAMMA;
+        assertEquals(random.nextLong(), SplitMix.mix(state));
+      }
+    }
+  }
+}